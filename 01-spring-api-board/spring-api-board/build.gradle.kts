@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.7"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.github.stella"
@@ -25,10 +26,13 @@ repositories {
 }
 
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
+    // 크기/TTL 제한 로컬 캐시 (버전은 Spring Boot BOM 관리)
+    implementation("com.github.ben-manes.caffeine:caffeine")
     // Querydsl (Jakarta)
     implementation("com.querydsl:querydsl-jpa:5.1.0:jakarta")
     annotationProcessor("com.querydsl:querydsl-apt:5.1.0:jakarta")
@@ -39,8 +43,15 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api:2.1.1")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
-    runtimeOnly("org.postgresql:postgresql")
+    // local-routing 프로필: bootRun에서 임베디드 프라이머리/레플리카 PostgreSQL (실행 jar에는 포함되지 않음)
+    compileOnly("io.zonky.test:embedded-postgres:2.1.1")
+    developmentOnly("io.zonky.test:embedded-postgres:2.1.1")
+    // LISTEN/NOTIFY(PGConnection) 사용으로 컴파일 의존성
+    implementation("org.postgresql:postgresql")
     annotationProcessor("org.projectlombok:lombok")
+    // JMH 벤치마크(src/jmh): 임베디드 PostgreSQL에 데이터를 적재해 통계 쿼리 구현을 비교
+    jmh("io.zonky.test:embedded-postgres:2.1.1")
+    jmh("org.postgresql:postgresql")
     // 테스트는 일단 비활성화하므로 테스트 의존성 제거
     constraints {
         implementation("org.apache.commons:commons-lang3:3.18.0") {
@@ -49,6 +60,19 @@ dependencies {
     }
 }
 
+// ./gradlew jmh -PstatsBenchPosts=10000,100000,1000000 (기본 10k, 100k)
+jmh {
+    jmhVersion = "1.37"
+    includes = listOf("StatsQueryBenchmark")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc") // 연산당 할당량(gc.alloc.rate.norm)
+    resultFormat = "JSON"
+    val postCounts = (findProperty("statsBenchPosts") as String? ?: "10000,100000").split(",")
+    benchmarkParameters.put("postCount", objects.listProperty<String>().value(postCounts))
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
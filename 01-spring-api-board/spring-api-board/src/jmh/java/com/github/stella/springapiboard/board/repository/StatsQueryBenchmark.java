@@ -0,0 +1,144 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.SpringApiBoardApplication;
+import com.github.stella.springapiboard.board.dto.StatsDtos;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatsQueryRepository 구현별 처리량/할당량 비교 (app.stats.source 선택 근거)
+ * - Trial마다 임베디드 PostgreSQL을 띄우고 postCount건의 게시글(카테고리 20, 태그 200, 작성자 1000, 게시글당 태그 3개)을 적재한다.
+ * - rollup 구현은 적재 후 StatsRollupRepository.rebuildAll()로 롤업 테이블을 채운 상태에서 측정한다.
+ * - StatsService와 같이 읽기 전용 트랜잭션 안에서 호출한다.
+ * - 예약 작업(롤업/캐시 워밍/조회수 반영/파일 정리/레플리카 지연 확인 등)의 SQL과 할당이 측정에 섞이지 않도록 스케줄링을 끈다.
+ *
+ * 실행: ./gradlew jmh -PstatsBenchPosts=10000,100000,1000000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StatsQueryBenchmark {
+
+    private static final int CATEGORY_COUNT = 20;
+    private static final int TAG_COUNT = 200;
+    private static final int AUTHOR_COUNT = 1000;
+
+    @Param({"10000"})
+    public int postCount;
+
+    @Param({"native", "jpql", "querydsl", "rollup"})
+    public String source;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTx;
+    private StatsQueryRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(SpringApiBoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        // 검색 인덱스(GIN/인메모리) 구축은 통계 측정과 무관하므로 생략
+                        "app.search.engine=like",
+                        "app.stats.rollup.backfill-on-startup=false",
+                        "app.scheduling.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        PlatformTransactionManager txManager = context.getBean(PlatformTransactionManager.class);
+        seed(context.getBean(JdbcTemplate.class));
+        new TransactionTemplate(txManager).executeWithoutResult(s ->
+                context.getBean(StatsRollupRepository.class).rebuildAll());
+
+        readOnlyTx = new TransactionTemplate(txManager);
+        readOnlyTx.setReadOnly(true);
+        repository = context.getBean(switch (source) {
+            case "native" -> StatsQueryRepositoryImpl.class;
+            case "jpql" -> StatsQueryRepositoryJpqlImpl.class;
+            case "querydsl" -> StatsQueryRepositoryQuerydslImpl.class;
+            case "rollup" -> StatsQueryRepositoryRollupImpl.class;
+            default -> throw new IllegalArgumentException("Unknown source: " + source);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) context.close();
+        if (postgres != null) postgres.close();
+    }
+
+    @Benchmark
+    public List<StatsDtos.DailyCount> findDailyPosts() {
+        return readOnlyTx.execute(s -> repository.findDailyPosts(30));
+    }
+
+    @Benchmark
+    public List<StatsDtos.TopItem> findTopCategories() {
+        return readOnlyTx.execute(s -> repository.findTopCategories(5));
+    }
+
+    @Benchmark
+    public List<StatsDtos.TopItem> findTopTags() {
+        return readOnlyTx.execute(s -> repository.findTopTags(5));
+    }
+
+    @Benchmark
+    public List<StatsDtos.TopItem> findTopAuthors() {
+        return readOnlyTx.execute(s -> repository.findTopAuthors(5));
+    }
+
+    // generate_series로 한 번에 적재 (created_at은 최근 365일에 고르게 분포)
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("""
+                insert into categories (name, slug, created_at, updated_at)
+                select 'category-' || g, 'category-' || g, now(), now() from generate_series(1, ?) g
+                """, CATEGORY_COUNT);
+        jdbc.update("""
+                insert into tags (name, slug, created_at, updated_at)
+                select 'tag-' || g, 'tag-' || g, now(), now() from generate_series(1, ?) g
+                """, TAG_COUNT);
+
+        jdbc.update("""
+                insert into posts (id, title, content, author, category_id, created_at, updated_at)
+                select g, 'post ' || g, 'benchmark content ' || g, 'author-' || (g % ?),
+                       (select min(id) from categories) + g % ?,
+                       now() - (g % 365) * interval '1 day' - (g % 86400) * interval '1 second', now()
+                from generate_series(1, ?) g
+                """, AUTHOR_COUNT, CATEGORY_COUNT, postCount);
+        // posts.id는 시퀀스(pooled) 할당이므로 직접 넣은 ID 이후로 맞춘다
+        jdbc.queryForObject("select setval('posts_seq', ?)", Long.class, (long) postCount);
+
+        // 게시글당 서로 다른 태그 3개 (오프셋 0/67/134는 200으로 나눈 나머지가 겹치지 않음)
+        jdbc.update("""
+                insert into post_tags (post_id, tag_id)
+                select p.id, (select min(id) from tags) + (p.id + k * 67) % ?
+                from posts p cross join generate_series(0, 2) k
+                """, TAG_COUNT);
+        jdbc.execute("analyze");
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.stella.springapiboard.board.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 인스턴스 간 게시글 캐시 무효화
+ * - publish: 변경 트랜잭션 안에서 pg_notify → 커밋될 때만 다른 인스턴스에 전달된다.
+ * - listen : 커넥션 풀과 별개인 전용 커넥션으로 LISTEN 하며, 자기 자신이 보낸 알림은 무시한다.
+ * - 연결이 끊겼다 다시 붙으면 그 사이 알림을 놓쳤을 수 있으므로 로컬 캐시를 모두 비운다.
+ * - 다른 인스턴스의 변경을 받으면 검색 결과 캐시(PostSearchCache)의 epoch도 올린다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.post.invalidation", havingValue = "postgres")
+public class PostCacheInvalidationChannel implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostCacheInvalidationChannel.class);
+
+    static final String CHANNEL = "post_cache_invalidation";
+    // NOTIFY payload 한도(8000 bytes) 안에 들어가도록 나눠 보낸다
+    private static final int MAX_IDS_PER_NOTIFY = 400;
+    private static final int POLL_TIMEOUT_MS = 1_000;
+    private static final long RETRY_DELAY_MS = 5_000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final PostNearCache nearCache;
+    private final PostSearchCache searchCache;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostCacheInvalidationChannel(JdbcTemplate jdbcTemplate,
+                                        DataSourceProperties dataSourceProperties,
+                                        PostNearCache nearCache,
+                                        PostSearchCache searchCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.nearCache = nearCache;
+        this.searchCache = searchCache;
+    }
+
+    public void publish(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        for (int from = 0; from < list.size(); from += MAX_IDS_PER_NOTIFY) {
+            String payload = nodeId + ":" + list.subList(from, Math.min(from + MAX_IDS_PER_NOTIFY, list.size())).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            jdbcTemplate.query("select pg_notify(?, ?)", (RowCallbackHandler) rs -> {}, CHANNEL, payload);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "post-cache-invalidation");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) listener.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + CHANNEL);
+                }
+                nearCache.evictAllLocal();
+                searchCache.bump();
+                log.info("Listening for post cache invalidations on channel {}", CHANNEL);
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("Post cache invalidation listener disconnected, retrying in {} ms", RETRY_DELAY_MS, e);
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // payload: {nodeId}:{id},{id},...
+    private void handle(String payload) {
+        int sep = payload.indexOf(':');
+        if (sep < 0 || payload.substring(0, sep).equals(nodeId)) return;
+        List<Long> ids = Arrays.stream(payload.substring(sep + 1).split(","))
+                .filter(s -> !s.isBlank())
+                .map(Long::valueOf)
+                .toList();
+        nearCache.evictLocal(ids);
+        searchCache.bump();
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.stella.springapiboard.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.stella.springapiboard.board.dto.PostDto;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostsRetaggedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건(PostDto) 로컬 캐시
+ * - 크기/TTL 제한, 적중/미스 지표는 Micrometer(cache.gets 등, name=postNearCache)로 노출
+ * - 게시글 변경은 커밋 이후에만 무효화한다. (롤백된 변경이 캐시를 비우거나, 커밋 전 값이 다시 채워지는 일 방지)
+ * - 적재는 Caffeine의 원자적 get(key, loader)로 하므로 로딩 중인 키의 무효화는 로딩이 끝난 뒤 적용된다.
+ * - 조회수는 PostViewCounter가 반영할 때마다 캐시된 값에 증분만 더한다. 항목 수명은 적재 시점부터 세므로
+ *   (갱신해도 연장되지 않음) 다른 인스턴스에서 반영된 조회수도 expire-after-write 안에는 보인다.
+ * - app.cache.post.invalidation=postgres 이면 PostCacheInvalidationChannel로 다른 인스턴스에도 무효화를 전파한다.
+ */
+@Component
+public class PostNearCache {
+
+    private static final String CACHE_NAME = "postNearCache";
+
+    private final Cache<Long, PostDto> cache;
+    private final ObjectProvider<PostCacheInvalidationChannel> invalidationChannel;
+
+    public PostNearCache(@Value("${app.cache.post.maximum-size:10000}") long maximumSize,
+                         @Value("${app.cache.post.expire-after-write:10m}") Duration expireAfterWrite,
+                         ObjectProvider<MeterRegistry> meterRegistry,
+                         ObjectProvider<PostCacheInvalidationChannel> invalidationChannel) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((Long id, PostDto dto) -> expireAfterWrite))
+                .recordStats()
+                .build();
+        this.invalidationChannel = invalidationChannel;
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    public PostDto get(Long id, Function<Long, PostDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    public PostDto getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        evictAfterCommit(List.of(event.postId()));
+    }
+
+    @EventListener
+    public void onPostsRetagged(PostsRetaggedEvent event) {
+        evictAfterCommit(event.postIds());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 무효화한다. (트랜잭션 밖이면 즉시)
+     * 다른 인스턴스로의 알림(pg_notify)은 커밋 직전 같은 트랜잭션에서 보내므로 커밋될 때만 전달된다.
+     */
+    public void evictAfterCommit(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidationChannel.ifAvailable(channel -> channel.publish(ids));
+            evictLocal(ids);
+            return;
+        }
+        pendingIds().addAll(ids);
+    }
+
+    // 조회수 증분 반영: 캐시에 있는 항목만 조회수를 더한 값으로 바꾼다 (무효화하지 않으므로 다시 로딩하지 않음)
+    public void addViewCounts(Collection<Map.Entry<Long, Long>> deltas) {
+        for (Map.Entry<Long, Long> d : deltas) {
+            cache.asMap().computeIfPresent(d.getKey(), (id, dto) -> dto.withViewCount(dto.viewCount() + d.getValue()));
+        }
+    }
+
+    // 이 인스턴스만 무효화 (다른 인스턴스의 알림 수신 시 사용)
+    public void evictLocal(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    public void evictAllLocal() {
+        cache.invalidateAll();
+    }
+
+    // 트랜잭션 단위로 무효화할 ID를 모은다
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingIds() {
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) return pending;
+
+        Set<Long> created = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                invalidationChannel.ifAvailable(channel -> channel.publish(created));
+            }
+
+            @Override
+            public void afterCommit() {
+                evictLocal(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PostNearCache.this);
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.stella.springapiboard.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stella.springapiboard.board.dto.PostSearchDtos.PostSearchCondition;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostsRetaggedEvent;
+import com.github.stella.springapiboard.board.event.ReferenceDataChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 검색/목록 결과 캐시 (페이지의 게시글 ID 목록과 총 건수만 저장)
+ * - 키: (쓰기 epoch, 정규화된 검색 조건, offset/size/sort, countCap)
+ * - 게시글/태그/카테고리 변경이 커밋되면 epoch를 올린다. 이전 epoch 키는 더 이상 조회되지 않고 TTL/크기 제한으로 밀려난다.
+ * - 조회를 시작할 때의 epoch로 키를 만들므로, 조회 도중 커밋된 변경 이전 결과가 새 epoch에 저장되지 않는다.
+ * - 다른 인스턴스의 게시글 변경은 PostCacheInvalidationChannel 수신 시 epoch를 올려 반영한다. (그 외는 TTL)
+ */
+@Component
+public class PostSearchCache {
+
+    private static final String CACHE_NAME = "postSearchCache";
+    // countCap 없는 정확한 total
+    private static final long EXACT = -1;
+
+    private final Cache<Key, IdPage> cache;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public PostSearchCache(@Value("${app.cache.search.maximum-size:2000}") long maximumSize,
+                           @Value("${app.cache.search.expire-after-write:30s}") Duration expireAfterWrite,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    public record IdPage(List<Long> ids, long total) {
+        static IdPage of(Page<Long> page) {
+            return new IdPage(List.copyOf(page.getContent()), page.getTotalElements());
+        }
+    }
+
+    private record Key(long epoch, PostSearchCondition condition, long offset, int size, Sort sort, long countCap) {}
+
+    public IdPage get(PostSearchCondition condition, Pageable pageable, Supplier<Page<Long>> loader) {
+        return get(condition, pageable, EXACT, loader);
+    }
+
+    /**
+     * condition은 normalize()된 조건이어야 한다. (loader도 같은 조건으로 조회)
+     */
+    public IdPage get(PostSearchCondition condition, Pageable pageable, long countCap, Supplier<Page<Long>> loader) {
+        if (pageable.isUnpaged()) return IdPage.of(loader.get());
+        Key key = new Key(epoch.get(), condition, pageable.getOffset(), pageable.getPageSize(), pageable.getSort(), countCap);
+        return cache.get(key, k -> IdPage.of(loader.get()));
+    }
+
+    public void bump() {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsRetagged(PostsRetaggedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        bump();
+    }
+
+    /**
+     * 결과가 같은 조건을 같은 키로 모은다. (조회 결과가 바뀌지 않는 변환만)
+     * - 빈 검색어/작성자는 조건 없음, 검색어는 대소문자 무시 검색이므로 소문자로
+     * - 태그는 AND 조건이므로 순서/중복 제거
+     */
+    public static PostSearchCondition normalize(PostSearchCondition condition) {
+        String keyword = condition.keyword() == null || condition.keyword().isBlank()
+                ? null : condition.keyword().toLowerCase(Locale.ROOT);
+        String author = condition.author() == null || condition.author().isBlank() ? null : condition.author();
+        List<Long> tagIds = condition.tagIds() == null ? null : condition.tagIds().stream()
+                .filter(Objects::nonNull).distinct().sorted().toList();
+        if (tagIds != null && tagIds.isEmpty()) tagIds = null;
+        return new PostSearchCondition(keyword, author, condition.categoryId(), tagIds, condition.from(), condition.to());
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.stella.springapiboard.board.cache;
+
+import com.github.stella.springapiboard.board.dto.CategoryDtos.CategoryDto;
+import com.github.stella.springapiboard.board.dto.TagDtos.TagDto;
+import com.github.stella.springapiboard.board.event.ReferenceDataChangedEvent;
+import com.github.stella.springapiboard.board.repository.CategoryRepository;
+import com.github.stella.springapiboard.board.repository.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리/태그 참조 데이터 사전 (불변 스냅샷)
+ * - 전체 카테고리/태그를 한 번에 읽어 id/slug 맵과 정렬된 목록을 가진 Snapshot으로 만들고 참조를 통째로 교체한다.
+ *   읽는 쪽은 락 없이 항상 일관된 한 버전을 본다.
+ * - CategoryService/TagService 변경은 커밋 이후 다시 적재하고, 다른 인스턴스의 변경은 refresh-interval마다 따라잡는다.
+ * - 사전에 없는 id/slug(다른 인스턴스에서 방금 생성 등)는 호출하는 쪽에서 DB로 한 번 더 확인한다.
+ */
+@Component
+public class ReferenceDataDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataDictionary.class);
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong versions = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataDictionary(CategoryRepository categoryRepository,
+                                   TagRepository tagRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        // 커밋 이후(AFTER_COMMIT) 호출되어도 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 읽는다
+        // readOnly로 두지 않는다: 읽기/쓰기 분리 시 방금 커밋한 변경을 복제 지연 없이 프라이머리에서 읽기 위함
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = reload();
+                }
+            }
+        }
+        return current;
+    }
+
+    public Optional<CategoryDto> category(Long id) {
+        return Optional.ofNullable(snapshot().categoriesById().get(id));
+    }
+
+    public Optional<TagDto> tag(Long id) {
+        return Optional.ofNullable(snapshot().tagsById().get(id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.reference-data.refresh-interval:PT5M}",
+            initialDelayString = "${app.reference-data.refresh-interval:PT5M}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * 카테고리/태그 전체를 다시 읽어 새 스냅샷으로 교체한다.
+     * 동시에 여러 번 불려도 나중에 읽은 결과가 이전 결과를 덮어쓰지 않도록 적재와 교체를 직렬화한다.
+     */
+    public synchronized Snapshot reload() {
+        Snapshot loaded = transactionTemplate.execute(status -> Snapshot.of(
+                versions.incrementAndGet(),
+                categoryRepository.findAll(Sort.by("id")).stream().map(CategoryDto::from).toList(),
+                tagRepository.findAll(Sort.by("id")).stream().map(TagDto::from).toList()));
+        snapshot = loaded;
+        log.debug("Reference data reloaded: version={}, categories={}, tags={}",
+                loaded.version(), loaded.categories().size(), loaded.tags().size());
+        return loaded;
+    }
+
+    /**
+     * 한 시점의 카테고리/태그 전체 (목록은 id 오름차순)
+     */
+    public record Snapshot(
+            long version,
+            List<CategoryDto> categories,
+            Map<Long, CategoryDto> categoriesById,
+            Map<String, CategoryDto> categoriesBySlug,
+            List<TagDto> tags,
+            Map<Long, TagDto> tagsById,
+            Map<String, TagDto> tagsBySlug
+    ) {
+        public static final Map<String, Comparator<CategoryDto>> CATEGORY_SORTS = Map.of(
+                "id", Comparator.comparing(CategoryDto::id),
+                "name", Comparator.comparing(CategoryDto::name, Comparator.nullsLast(Comparator.naturalOrder())),
+                "slug", Comparator.comparing(CategoryDto::slug, Comparator.nullsLast(Comparator.naturalOrder())),
+                "createdAt", Comparator.comparing(CategoryDto::createdAt, Comparator.nullsLast(Comparator.naturalOrder())),
+                "updatedAt", Comparator.comparing(CategoryDto::updatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+        );
+
+        public static final Map<String, Comparator<TagDto>> TAG_SORTS = Map.of(
+                "id", Comparator.comparing(TagDto::id),
+                "name", Comparator.comparing(TagDto::name, Comparator.nullsLast(Comparator.naturalOrder())),
+                "slug", Comparator.comparing(TagDto::slug, Comparator.nullsLast(Comparator.naturalOrder())),
+                "createdAt", Comparator.comparing(TagDto::createdAt, Comparator.nullsLast(Comparator.naturalOrder())),
+                "updatedAt", Comparator.comparing(TagDto::updatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+        );
+
+        static Snapshot of(long version, List<CategoryDto> categories, List<TagDto> tags) {
+            return new Snapshot(
+                    version,
+                    List.copyOf(categories),
+                    index(categories, CategoryDto::id),
+                    index(categories, CategoryDto::slug),
+                    List.copyOf(tags),
+                    index(tags, TagDto::id),
+                    index(tags, TagDto::slug));
+        }
+
+        private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+            return Map.copyOf(values.stream().collect(Collectors.toMap(key, Function.identity())));
+        }
+    }
+}
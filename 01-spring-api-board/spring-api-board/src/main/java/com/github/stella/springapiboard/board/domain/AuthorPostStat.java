@@ -0,0 +1,25 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 작성자별 게시글 수 롤업
+ */
+@Getter
+@Entity
+@Table(name = "stats_author_posts")
+public class AuthorPostStat {
+
+    @Id
+    @Column(name = "author", length = 100)
+    private String author;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    protected AuthorPostStat() {}
+}
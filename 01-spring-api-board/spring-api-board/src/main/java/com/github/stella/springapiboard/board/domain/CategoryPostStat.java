@@ -0,0 +1,25 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 카테고리별 게시글 수 롤업
+ */
+@Getter
+@Entity
+@Table(name = "stats_category_posts")
+public class CategoryPostStat {
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    protected CategoryPostStat() {}
+}
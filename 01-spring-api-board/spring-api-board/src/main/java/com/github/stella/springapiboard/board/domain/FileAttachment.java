@@ -7,7 +7,8 @@ import lombok.Getter;
 @Getter
 @Entity
 @Table(name = "file_attachments", indexes = {
-        @Index(name = "idx_file_post", columnList = "post_id")
+        @Index(name = "idx_file_post", columnList = "post_id"),
+        @Index(name = "idx_file_sha256", columnList = "sha256")
 })
 public class FileAttachment extends BaseTimeEntity {
 
@@ -30,6 +31,10 @@ public class FileAttachment extends BaseTimeEntity {
     @Column(nullable = false)
     private String path; // 저장된 절대/상대 경로
 
+    // 내용 해시 (file_blobs 참조, 도입 이전 파일은 null)
+    @Column(length = 64)
+    private String sha256;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
@@ -37,11 +42,17 @@ public class FileAttachment extends BaseTimeEntity {
     protected FileAttachment() {}
 
     public FileAttachment(String originalName, String savedName, String contentType, long size, String path, Post post) {
+        this(originalName, savedName, contentType, size, path, null, post);
+    }
+
+    public FileAttachment(String originalName, String savedName, String contentType, long size, String path,
+                          String sha256, Post post) {
         this.originalName = originalName;
         this.savedName = savedName;
         this.contentType = contentType;
         this.size = size;
         this.path = path;
+        this.sha256 = sha256;
         this.post = post;
     }
 
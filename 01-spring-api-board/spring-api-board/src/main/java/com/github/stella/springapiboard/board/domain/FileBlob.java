@@ -0,0 +1,39 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반(SHA-256) 저장 파일
+ * 같은 내용의 업로드는 하나의 blob을 공유하고, 참조하는 FileAttachment 수를 refCount로 관리한다.
+ * refCount가 0이 된 blob은 유예 시간이 지난 뒤 정리 작업(FileCleanupJob)이 파일과 함께 지운다.
+ */
+@Getter
+@Entity
+@Table(name = "file_blobs")
+public class FileBlob {
+
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String path;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    // refCount가 0이 된 시각 (다시 참조되면 null)
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    protected FileBlob() {}
+}
@@ -0,0 +1,28 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 디스크에서 지워야 할 파일 경로 대기열
+ * 메타데이터는 트랜잭션 안에서 집합 단위로 지우고, 실제 파일 삭제는 정리 작업이 모아서 처리한다.
+ */
+@Getter
+@Entity
+@Table(name = "file_deletions")
+public class FileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String path;
+
+    protected FileDeletion() {}
+}
@@ -9,23 +9,42 @@ import java.util.Set;
 
 @Entity
 @Getter
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 키셋 페이징 (created_at desc, id desc) 정렬/탐색용
+        @Index(name = "idx_post_created_id", columnList = "created_at, id")
+})
 public class Post extends BaseTimeEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 insert마다 키를 즉시 받아와야 해서 JDBC 배치가 꺼진다 → 시퀀스 + pooled 할당(50개씩 선점)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "posts_seq", allocationSize = Post.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Lob
-    @Column(nullable = false)
+    // @Lob은 PostgreSQL에서 oid(large object)로 매핑될 수 있어 text로 고정한다 (전문 검색 생성 컬럼이 본문을 읽음)
+    @Column(nullable = false, columnDefinition = "text")
     private String content;
 
     @Column(nullable = false, length = 100)
     private String author;
 
+    // 낙관적 락 + ETag 원천. 제목/내용/카테고리/태그가 바뀌면 Hibernate가 1 증가시킨다
+    // (기존 행이 있는 테이블에 ddl-auto=update로 추가될 수 있도록 DB 기본값 0)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // 조회수: PostViewCounter가 메모리에서 모은 증분을 주기적으로 더한다
+    // 엔티티 수정(더티 체킹)이 flush 사이의 값을 덮어쓰지 않도록 insert/update 대상에서 제외 (버전도 올리지 않음)
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private long viewCount;
+
     // Optional: 카테고리
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
@@ -0,0 +1,79 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * 시간별 게시글 수 롤업 (게시글 생성/삭제/분류 변경 시 같은 트랜잭션에서 증감)
+ * - dimension: all(전체) | category | tag
+ * - dimension_id: category/tag는 해당 ID, all은 슬롯 번호(0 ~ ALL_SLOTS-1)
+ *   모든 쓰기가 같은 all 행을 갱신해 행 잠금이 몰리지 않도록 트랜잭션마다 슬롯 하나에 나눠 쓰고, 조회 시 슬롯을 합산한다.
+ * - bucket: 시 단위로 자른 작성 시각
+ * - PK 순서 (dimension, dimension_id, bucket) 그대로 기간 조회가 인덱스 범위 스캔이 된다. (all은 슬롯별 범위 스캔)
+ * 일/주/월 시계열은 이 테이블의 시간 버킷을 합산해 만든다.
+ */
+@Getter
+@Entity
+@Table(name = "stats_hourly_posts")
+public class PostHourlyStat {
+
+    public static final String ALL = "all";
+    public static final String CATEGORY = "category";
+    public static final String TAG = "tag";
+    // all 차원의 슬롯 수 (줄이면 기존 슬롯 행이 조회되지 않으므로 늘리기만 한다)
+    public static final int ALL_SLOTS = 8;
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    protected PostHourlyStat() {}
+
+    // 조회 시 합산할 dimension_id 목록
+    public static List<Long> dimensionIds(String dimension, long dimensionId) {
+        if (!ALL.equals(dimension)) return List.of(dimensionId);
+        return LongStream.range(0, ALL_SLOTS).boxed().toList();
+    }
+
+    @Getter
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "dimension", length = 16)
+        private String dimension;
+
+        @Column(name = "dimension_id")
+        private long dimensionId;
+
+        @Column(name = "bucket")
+        private LocalDateTime hour;
+
+        protected Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return dimensionId == other.dimensionId
+                    && Objects.equals(dimension, other.dimension)
+                    && Objects.equals(hour, other.hour);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimension, dimensionId, hour);
+        }
+    }
+}
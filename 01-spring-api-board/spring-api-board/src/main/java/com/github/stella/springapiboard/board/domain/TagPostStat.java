@@ -0,0 +1,25 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 태그별 게시글 수 롤업
+ */
+@Getter
+@Entity
+@Table(name = "stats_tag_posts")
+public class TagPostStat {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    protected TagPostStat() {}
+}
@@ -0,0 +1,58 @@
+package com.github.stella.springapiboard.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 분할 업로드에서 수신 완료된 구간 [offset, offset + length)
+ * 청크마다 독립된 행이라 병렬 PUT이 세션 행을 두고 경합하지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "upload_chunks")
+public class UploadChunk {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private long length;
+
+    protected UploadChunk() {}
+
+    public long getOffset() {
+        return key.chunkOffset;
+    }
+
+    @Getter
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "session_id", length = 36)
+        private String sessionId;
+
+        @Column(name = "chunk_offset")
+        private long chunkOffset;
+
+        protected Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return chunkOffset == other.chunkOffset && Objects.equals(sessionId, other.sessionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessionId, chunkOffset);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.stella.springapiboard.board.domain;
+
+import com.github.stella.springapiboard.common.jpa.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 진행 중인 분할(재개 가능) 업로드
+ * 완료되면 FileAttachment로 등록되고 세션/청크 기록은 삭제된다.
+ * updatedAt은 마지막 활동 시각이다. (청크 기록 시에도 갱신, 만료 기준)
+ */
+@Getter
+@Entity
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_session_updated", columnList = "updated_at")
+})
+public class UploadSession extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private String originalName;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private String tempPath; // 미리 size만큼 할당된 임시 파일
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    // COMPLETING: complete가 파일을 저장소로 복사하는 중 → 청크 쓰기/중단 거부
+    // (기존 행이 있는 테이블에 ddl-auto=update로 추가될 수 있도록 DB 기본값 지정)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) default 'UPLOADING'")
+    private Status status = Status.UPLOADING;
+
+    protected UploadSession() {}
+
+    public UploadSession(String id, String originalName, String contentType, long size, String tempPath, Long postId) {
+        this.id = id;
+        this.originalName = originalName;
+        this.contentType = contentType;
+        this.size = size;
+        this.tempPath = tempPath;
+        this.postId = postId;
+    }
+
+    public boolean isUploading() {
+        return status == Status.UPLOADING;
+    }
+
+    public void beginCompletion() {
+        this.status = Status.COMPLETING;
+    }
+
+    public void resumeUploading() {
+        this.status = Status.UPLOADING;
+    }
+
+    public enum Status { UPLOADING, COMPLETING }
+}
@@ -2,7 +2,11 @@ package com.github.stella.springapiboard.board.dto;
 
 import com.github.stella.springapiboard.board.domain.FileAttachment;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public class FileDtos {
 
@@ -13,6 +17,7 @@ public class FileDtos {
             String contentType,
             long size,
             String path,
+            String sha256,
             Long postId,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
@@ -25,10 +30,41 @@ public class FileDtos {
                     fa.getContentType(),
                     fa.getSize(),
                     fa.getPath(),
+                    fa.getSha256(),
                     fa.getPost() == null ? null : fa.getPost().getId(),
                     fa.getCreatedAt(),
                     fa.getUpdatedAt()
             );
         }
     }
+
+    /**
+     * 다운로드 응답에 필요한 메타데이터 (요청당 한 번만 조회)
+     * etag: 내용 해시가 있으면 해시, 없으면(도입 이전 파일) id-size-수정시각 조합
+     */
+    public record FileDownload(
+            String originalName,
+            String contentType,
+            long size,
+            Path path,
+            String etag,
+            Instant lastModified
+    ) {
+        public static FileDownload from(FileAttachment fa) {
+            Instant lastModified = fa.getUpdatedAt() == null
+                    ? Instant.EPOCH
+                    : fa.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+            String tag = fa.getSha256() != null
+                    ? fa.getSha256()
+                    : fa.getId() + "-" + fa.getSize() + "-" + lastModified.toEpochMilli();
+            return new FileDownload(
+                    fa.getOriginalName(),
+                    fa.getContentType(),
+                    fa.getSize(),
+                    Paths.get(fa.getPath()),
+                    "\"" + tag + "\"",
+                    lastModified
+            );
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package com.github.stella.springapiboard.board.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class PostBulkDeleteDtos {
+
+    public record PostBulkDeleteRequest(
+            @NotEmpty List<Long> postIds
+    ) {}
+
+    public record PostBulkDeleteResult(
+            int requested,
+            // 실제로 삭제된 게시글 수 (없는 ID는 제외)
+            int deleted,
+            // 함께 삭제된 첨부파일 메타데이터 수 (파일은 정리 작업이 비동기로 삭제)
+            long attachments
+    ) {}
+}
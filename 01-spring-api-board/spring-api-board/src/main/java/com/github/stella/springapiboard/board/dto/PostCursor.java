@@ -0,0 +1,44 @@
+package com.github.stella.springapiboard.board.dto;
+
+import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이징 커서: 마지막으로 내려준 게시글의 (createdAt, id)
+ * 클라이언트에는 내부 구조를 노출하지 않도록 Base64(URL-safe) 문자열로 인코딩해 전달한다.
+ */
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 문자열은 첫 페이지를 의미한다
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
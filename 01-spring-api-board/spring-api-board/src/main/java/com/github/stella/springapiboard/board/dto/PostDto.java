@@ -14,8 +14,15 @@ public record PostDto(
         Long categoryId,
         List<Long> tagIds,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version,
+        // 주기적으로 반영되는 근사값 (ETag/버전에는 영향 없음)
+        long viewCount
 ) {
+    public PostDto withViewCount(long viewCount) {
+        return new PostDto(id, title, content, author, categoryId, tagIds, createdAt, updatedAt, version, viewCount);
+    }
+
     public static PostDto from(Post p) {
         return new PostDto(
                 p.getId(),
@@ -25,7 +32,9 @@ public record PostDto(
                 p.getCategory() == null ? null : p.getCategory().getId(),
                 p.getTags() == null ? List.of() : p.getTags().stream().map(t -> t.getId()).collect(Collectors.toList()),
                 p.getCreatedAt(),
-                p.getUpdatedAt()
+                p.getUpdatedAt(),
+                p.getVersion(),
+                p.getViewCount()
         );
     }
 }
@@ -0,0 +1,37 @@
+package com.github.stella.springapiboard.board.dto;
+
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+
+/**
+ * 게시글 내보내기 형식
+ */
+public enum PostExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    PostExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static PostExportFormat from(String value) {
+        if (value == null || value.isBlank()) return NDJSON;
+        for (PostExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) return format;
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.stella.springapiboard.board.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class PostImportDtos {
+
+    public record PostImportItem(
+            @NotBlank @Size(max = 200) String title,
+            @NotBlank String content,
+            @NotBlank @Size(max = 100) String author,
+            // 선택: 카테고리/태그는 slug로 지정 (존재하지 않으면 요청 전체 거부)
+            String categorySlug,
+            List<String> tagSlugs
+    ) {}
+
+    public record PostImportRequest(
+            @NotEmpty @Valid List<PostImportItem> posts
+    ) {}
+
+    public record PostImportResult(
+            int imported,
+            int chunks,
+            List<Long> ids
+    ) {}
+}
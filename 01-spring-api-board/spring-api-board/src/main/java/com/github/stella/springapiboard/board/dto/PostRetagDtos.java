@@ -0,0 +1,24 @@
+package com.github.stella.springapiboard.board.dto;
+
+import com.github.stella.springapiboard.board.event.PostsRetaggedEvent;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class PostRetagDtos {
+
+    public record PostRetagRequest(
+            @NotNull Long tagId,
+            @NotNull PostsRetaggedEvent.Action action,
+            @NotEmpty List<Long> postIds
+    ) {}
+
+    public record PostRetagResult(
+            Long tagId,
+            PostsRetaggedEvent.Action action,
+            int requested,
+            // 실제로 태그가 추가/제거된 게시글 수 (이미 붙어 있거나 없는 게시글은 제외)
+            int affected
+    ) {}
+}
@@ -14,6 +14,11 @@ public class PostSearchDtos {
             List<Long> tagIds,       // 포함할 태그 ID 목록(AND 조건)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
-    ) {}
+    ) {
+        // 조건 없는 전체 조회
+        public static PostSearchCondition empty() {
+            return new PostSearchCondition(null, null, null, null, null, null);
+        }
+    }
 
 }
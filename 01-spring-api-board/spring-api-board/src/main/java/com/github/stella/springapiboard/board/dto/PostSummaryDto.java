@@ -0,0 +1,25 @@
+package com.github.stella.springapiboard.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록용 게시글 요약 (본문 content 제외)
+ */
+public record PostSummaryDto(
+        Long id,
+        String title,
+        String author,
+        Long categoryId,
+        List<Long> tagIds,
+        LocalDateTime createdAt
+) {
+    // QueryDSL Projections.constructor 용 — 태그 ID는 별도 쿼리로 모은 뒤 withTagIds로 채운다
+    public PostSummaryDto(Long id, String title, String author, Long categoryId, LocalDateTime createdAt) {
+        this(id, title, author, categoryId, List.of(), createdAt);
+    }
+
+    public PostSummaryDto withTagIds(List<Long> tagIds) {
+        return new PostSummaryDto(id, title, author, categoryId, tagIds, createdAt);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.stella.springapiboard.board.dto;
+
+import java.util.List;
+
+public class PostVersionDtos {
+
+    public record PostVersion(Long id, Long version) {}
+
+    // 목록 페이지의 (id, version) 목록과 총 건수 — 페이지 ETag 계산용
+    public record PageVersions(List<PostVersion> rows, long total) {}
+}
@@ -1,6 +1,7 @@
 package com.github.stella.springapiboard.board.dto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public class StatsDtos {
 
@@ -14,4 +15,10 @@ public class StatsDtos {
             String name,
             long count
     ) {}
+
+    // 시계열 한 구간 (bucket: 구간 시작 시각)
+    public record SeriesPoint(
+            LocalDateTime bucket,
+            long count
+    ) {}
 }
@@ -0,0 +1,57 @@
+package com.github.stella.springapiboard.board.dto;
+
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 시계열 버킷 단위 (PostgreSQL date_trunc와 같은 경계: 주는 월요일 시작)
+ */
+public enum StatsGranularity {
+
+    HOUR("hour"),
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String unit;
+
+    StatsGranularity(String unit) {
+        this.unit = unit;
+    }
+
+    // date_trunc 단위
+    public String unit() {
+        return unit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    public LocalDateTime next(LocalDateTime bucket) {
+        return switch (this) {
+            case HOUR -> bucket.plusHours(1);
+            case DAY -> bucket.plusDays(1);
+            case WEEK -> bucket.plusWeeks(1);
+            case MONTH -> bucket.plusMonths(1);
+        };
+    }
+
+    public static StatsGranularity from(String value) {
+        if (value == null || value.isBlank()) return DAY;
+        for (StatsGranularity granularity : values()) {
+            if (granularity.unit.equalsIgnoreCase(value.trim())) return granularity;
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+}
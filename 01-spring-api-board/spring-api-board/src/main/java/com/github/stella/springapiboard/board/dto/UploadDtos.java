@@ -0,0 +1,38 @@
+package com.github.stella.springapiboard.board.dto;
+
+import com.github.stella.springapiboard.board.domain.UploadChunk;
+import com.github.stella.springapiboard.board.domain.UploadSession;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class UploadDtos {
+
+    public record InitiateUploadRequest(
+            @NotBlank @Size(max = 255) String originalName,
+            @Size(max = 255) String contentType,
+            @Positive long size,
+            Long postId
+    ) {}
+
+    public record ChunkDto(long offset, long length) {
+        public static ChunkDto from(UploadChunk c) {
+            return new ChunkDto(c.getOffset(), c.getLength());
+        }
+    }
+
+    // received: 수신 완료 구간 (재개 시 빠진 구간만 다시 보내면 됨)
+    public record UploadSessionDto(
+            String uploadId,
+            String originalName,
+            long size,
+            long receivedBytes,
+            List<ChunkDto> received
+    ) {
+        public static UploadSessionDto of(UploadSession s, List<ChunkDto> received, long receivedBytes) {
+            return new UploadSessionDto(s.getId(), s.getOriginalName(), s.getSize(), receivedBytes, received);
+        }
+    }
+}
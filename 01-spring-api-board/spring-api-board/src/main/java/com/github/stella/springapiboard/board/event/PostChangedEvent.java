@@ -0,0 +1,31 @@
+package com.github.stella.springapiboard.board.event;
+
+/**
+ * 게시글 생성/수정/삭제 도메인 이벤트
+ * - before: 변경 전 상태 (CREATED 이면 null)
+ * - after : 변경 후 상태 (DELETED 이면 null)
+ * 트랜잭션 안에서 발행되며, 커밋 이후 처리가 필요한 리스너는 @TransactionalEventListener를 사용한다.
+ */
+public record PostChangedEvent(
+        Type type,
+        PostSnapshot before,
+        PostSnapshot after
+) {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static PostChangedEvent created(PostSnapshot after) {
+        return new PostChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static PostChangedEvent updated(PostSnapshot before, PostSnapshot after) {
+        return new PostChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static PostChangedEvent deleted(PostSnapshot before) {
+        return new PostChangedEvent(Type.DELETED, before, null);
+    }
+
+    public Long postId() {
+        return after != null ? after.id() : before.id();
+    }
+}
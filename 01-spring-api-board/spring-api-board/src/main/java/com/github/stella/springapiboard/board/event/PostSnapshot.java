@@ -0,0 +1,33 @@
+package com.github.stella.springapiboard.board.event;
+
+import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.board.domain.Tag;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 발행 시점의 게시글 상태 (엔티티를 트랜잭션 밖으로 내보내지 않기 위한 불변 복사본)
+ */
+public record PostSnapshot(
+        Long id,
+        String title,
+        String content,
+        String author,
+        Long categoryId,
+        Set<Long> tagIds,
+        LocalDateTime createdAt
+) {
+    public static PostSnapshot of(Post p) {
+        return new PostSnapshot(
+                p.getId(),
+                p.getTitle(),
+                p.getContent(),
+                p.getAuthor(),
+                p.getCategory() == null ? null : p.getCategory().getId(),
+                p.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet()),
+                p.getCreatedAt()
+        );
+    }
+}
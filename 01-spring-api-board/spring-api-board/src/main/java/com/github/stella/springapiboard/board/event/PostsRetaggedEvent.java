@@ -0,0 +1,21 @@
+package com.github.stella.springapiboard.board.event;
+
+import java.util.List;
+
+/**
+ * 태그 일괄 추가/제거 이벤트 (엔티티를 로딩하지 않는 set 기반 변경이라 PostChangedEvent 대신 발행)
+ * - postIds: 실제로 post_tags 행이 추가/삭제된 게시글만 포함
+ * 트랜잭션 안에서 발행된다.
+ */
+public record PostsRetaggedEvent(
+        Long tagId,
+        Action action,
+        List<Long> postIds
+) {
+    public enum Action { ADD, REMOVE }
+
+    // 태그 집계 증감분 (ADD: +건수, REMOVE: -건수)
+    public long delta() {
+        return action == Action.ADD ? postIds.size() : -postIds.size();
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.stella.springapiboard.board.event;
+
+/**
+ * 카테고리/태그 생성/수정/삭제 이벤트
+ * 트랜잭션 안에서 발행되며, ReferenceDataDictionary가 커밋 이후 스냅샷을 다시 적재한다.
+ */
+public record ReferenceDataChangedEvent(Kind kind) {
+    public enum Kind { CATEGORY, TAG }
+
+    public static ReferenceDataChangedEvent category() {
+        return new ReferenceDataChangedEvent(Kind.CATEGORY);
+    }
+
+    public static ReferenceDataChangedEvent tag() {
+        return new ReferenceDataChangedEvent(Kind.TAG);
+    }
+}
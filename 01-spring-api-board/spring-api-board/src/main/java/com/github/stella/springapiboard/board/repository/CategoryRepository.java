@@ -3,9 +3,12 @@ package com.github.stella.springapiboard.board.repository;
 import com.github.stella.springapiboard.board.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findBySlug(String slug);
     boolean existsBySlug(String slug);
+    List<Category> findAllBySlugIn(Collection<String> slugs);
 }
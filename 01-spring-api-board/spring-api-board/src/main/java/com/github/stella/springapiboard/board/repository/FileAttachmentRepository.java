@@ -2,9 +2,36 @@ package com.github.stella.springapiboard.board.repository;
 
 import com.github.stella.springapiboard.board.domain.FileAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface FileAttachmentRepository extends JpaRepository<FileAttachment, Long> {
     List<FileAttachment> findByPost_Id(Long postId);
+
+    /**
+     * 게시글들의 첨부파일 메타데이터를 한 문장으로 삭제하고 삭제된 건수를 반환한다.
+     * - blob 참조 파일: 해시별로 모아 ref_count를 한 번에 감소 (0이 되면 released_at 기록, 파일은 정리 작업이 삭제)
+     * - 해시 도입 이전 파일: 공유되지 않으므로 경로를 바로 삭제 대기열에 넣는다
+     */
+    @Query(value = """
+            with gone as (
+                delete from file_attachments where post_id in (:postIds)
+                returning sha256, path
+            ), released as (
+                update file_blobs b
+                set ref_count = greatest(b.ref_count - g.cnt, 0),
+                    released_at = case when b.ref_count - g.cnt <= 0 then :now else b.released_at end
+                from (select sha256, count(*) as cnt from gone where sha256 is not null group by sha256) g
+                where b.sha256 = g.sha256
+                returning b.sha256
+            ), legacy as (
+                insert into file_deletions (path) select path from gone where sha256 is null
+                returning id
+            )
+            select count(*) from gone
+            """, nativeQuery = true)
+    long deleteByPostIds(Collection<Long> postIds, LocalDateTime now);
 }
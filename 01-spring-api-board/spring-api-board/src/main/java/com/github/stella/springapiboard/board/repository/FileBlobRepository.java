@@ -0,0 +1,45 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    // 해시별 트랜잭션 잠금 (커밋/롤백 시 해제) — 파일 공개+참조 증가와 정리 작업의 파일 삭제를 직렬화한다
+    @Query(value = "select count(*) from (select pg_advisory_xact_lock(hashtext(:sha256))) l", nativeQuery = true)
+    long lockHash(String sha256);
+
+    // 참조 1 증가 (없으면 생성) 후 현재 참조 수 반환 — 동시 업로드도 행 단위로 직렬화된다
+    @Query(value = """
+            insert into file_blobs (sha256, path, size, ref_count) values (:sha256, :path, :size, 1)
+            on conflict (sha256) do update set ref_count = file_blobs.ref_count + 1, released_at = null
+            returning ref_count
+            """, nativeQuery = true)
+    long acquire(String sha256, String path, long size);
+
+    // 참조가 끊긴 지 cutoff 이전인 blob을 limit개까지 삭제 대기열로 옮긴다 (다른 인스턴스가 잡은 행은 건너뜀)
+    @Modifying
+    @Query(value = """
+            with gone as (
+                delete from file_blobs where sha256 in (
+                    select sha256 from file_blobs
+                    where ref_count = 0 and released_at < :cutoff
+                    order by released_at
+                    limit :limit
+                    for update skip locked
+                )
+                returning path
+            )
+            insert into file_deletions (path) select path from gone
+            """, nativeQuery = true)
+    int moveReleasedToDeletions(LocalDateTime cutoff, int limit);
+
+    // 주어진 해시 중 현재 등록된 것 (삭제 직전 재참조 확인용)
+    @Query("select b.sha256 from FileBlob b where b.sha256 in :sha256s")
+    List<String> findExistingIds(List<String> sha256s);
+}
@@ -0,0 +1,22 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.FileDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    // 대기열에서 limit개를 꺼내며(삭제) 경로 반환 — 다른 인스턴스가 잡은 행은 건너뛴다
+    @Query(value = """
+            delete from file_deletions where id in (
+                select id from file_deletions
+                order by id
+                limit :limit
+                for update skip locked
+            )
+            returning path
+            """, nativeQuery = true)
+    List<String> claim(int limit);
+}
@@ -0,0 +1,42 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.Post;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * posts_seq를 기존 posts.id 최댓값 이후로 맞춘다.
+ * IDENTITY로 쌓인 기존 데이터가 있는 DB에 ddl-auto=update로 시퀀스가 새로 생기면 1부터 시작해 키가 충돌하므로,
+ * 시퀀스가 max(id)보다 뒤처진 경우에만 한 번 당겨 둔다. (멱등)
+ * ApplicationRunner는 웹 서버가 요청을 받기 시작한 뒤에 실행되므로, 모든 싱글톤(스키마 갱신 포함) 생성 직후
+ * 웹 서버 시작 전에 맞춘다. 실패하면 애플리케이션이 시작되지 않는다.
+ */
+@Component
+public class PostIdSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PostIdSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostIdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // pooled 할당은 nextval 값(V)을 상한으로 (V - allocationSize, V] 구간을 쓰므로 max(id)로 맞추면 다음 구간부터 안전하다
+        List<Long> aligned = jdbcTemplate.queryForList("""
+                select setval('posts_seq', m.max_id)
+                from (select max(id) as max_id from posts) m
+                where (select last_value from posts_seq) < m.max_id
+                """, Long.class);
+        if (!aligned.isEmpty()) {
+            log.info("Aligned posts_seq to {} (allocationSize={})", aligned.get(0), Post.ID_ALLOCATION_SIZE);
+        }
+    }
+}
@@ -1,10 +1,43 @@
 package com.github.stella.springapiboard.board.repository;
 
 import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.board.dto.PostCursor;
 import com.github.stella.springapiboard.board.dto.PostSearchDtos.PostSearchCondition;
+import com.github.stella.springapiboard.board.dto.PostSummaryDto;
+import com.github.stella.springapiboard.board.dto.PostVersionDtos.PostVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
+// 페이지 조회는 pageable에 정렬이 있으면 그 정렬을, 없으면 검색 기본 정렬(관련도 또는 최신 ID 순)을 따른다
 public interface PostQueryRepository {
     Page<Post> search(PostSearchCondition condition, Pageable pageable);
+
+    // 총 건수를 countCap + 1 까지만 세는 검색 (total > countCap 이면 상한 초과)
+    Page<Post> search(PostSearchCondition condition, Pageable pageable, long countCap);
+
+    // 2단계 페이징의 1단계만: 현재 페이지의 게시글 ID와 총 건수 (검색 결과 캐시용)
+    Page<Long> searchIds(PostSearchCondition condition, Pageable pageable);
+
+    Page<Long> searchIds(PostSearchCondition condition, Pageable pageable, long countCap);
+
+    // 주어진 ID 순서를 유지하며 카테고리/태그까지 한 번의 쿼리로 로딩
+    List<Post> findAllWithRelations(List<Long> ids);
+
+    // 요약 목록: content 컬럼을 읽지 않는 projection
+    Page<PostSummaryDto> searchSummaries(PostSearchCondition condition, Pageable pageable);
+
+    Page<PostSummaryDto> searchSummaries(PostSearchCondition condition, Pageable pageable, long countCap);
+
+    // 주어진 ID 순서를 유지하며 요약 조회 (태그 ID 포함)
+    List<PostSummaryDto> findSummaries(List<Long> ids);
+
+    // 주어진 ID 순서를 유지하며 (id, version)만 조회 (PK 조회) — 목록 ETag 계산용
+    List<PostVersion> findVersions(List<Long> ids);
+
+    long count(PostSearchCondition condition);
+
+    // 키셋 페이징: cursor 이후(createdAt desc, id desc)의 게시글을 limit개까지 조회 (cursor가 null이면 첫 페이지)
+    List<Post> searchAfter(PostSearchCondition condition, PostCursor cursor, int limit);
 }
@@ -1,107 +1,313 @@
 package com.github.stella.springapiboard.board.repository;
 
 import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.board.dto.PostCursor;
 import com.github.stella.springapiboard.board.dto.PostSearchDtos.PostSearchCondition;
+import com.github.stella.springapiboard.board.dto.PostSummaryDto;
+import com.github.stella.springapiboard.board.dto.PostVersionDtos.PostVersion;
 import com.github.stella.springapiboard.board.domain.QCategory;
 import com.github.stella.springapiboard.board.domain.QPost;
 import com.github.stella.springapiboard.board.domain.QTag;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAProvider;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Repository
 public class PostQueryRepositoryImpl implements PostQueryRepository {
 
+    private static final Map<String, ComparableExpressionBase<?>> POST_SORTS = Map.of(
+            "id", QPost.post.id,
+            "title", QPost.post.title,
+            "author", QPost.post.author,
+            "viewCount", QPost.post.viewCount,
+            "createdAt", QPost.post.createdAt,
+            "updatedAt", QPost.post.updatedAt
+    );
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
+    // true: PostgreSQL 전문 검색(GIN 인덱스) / false: like 검색
+    private final boolean fullText;
 
-    public PostQueryRepositoryImpl(JPAQueryFactory queryFactory) {
+    public PostQueryRepositoryImpl(JPAQueryFactory queryFactory,
+                                   EntityManager em,
+                                   @Value("${app.search.engine:fulltext}") String searchEngine) {
         this.queryFactory = queryFactory;
+        this.em = em;
+        this.fullText = "fulltext".equalsIgnoreCase(searchEngine);
     }
 
     @Override
     public Page<Post> search(PostSearchCondition condition, Pageable pageable) {
+        return search(condition, pageable, () -> count(condition));
+    }
+
+    /**
+     * 총 건수를 countCap + 1 까지만 센다. 반환된 Page의 total이 countCap보다 크면 "countCap+건 이상"을 의미한다.
+     */
+    @Override
+    public Page<Post> search(PostSearchCondition condition, Pageable pageable, long countCap) {
+        return search(condition, pageable, () -> countUpTo(condition, countCap + 1));
+    }
+
+    /**
+     * 2단계 페이징
+     * 1) 필터/정렬을 적용해 현재 페이지의 게시글 ID만 DB에서 offset/limit으로 잘라온다.
+     * 2) 해당 ID들만 카테고리/태그와 함께 한 번에 로딩한다.
+     * 컬렉션(p.tags) fetch join + offset/limit 조합은 Hibernate가 메모리에서 페이징하므로 사용하지 않는다.
+     */
+    private Page<Post> search(PostSearchCondition condition, Pageable pageable, LongSupplier totalSupplier) {
+        List<Long> ids = pageIds(condition, pageable, pageOrder(condition, pageable));
+        List<Post> content = findAllWithRelations(ids);
+        // 첫 페이지에서 결과가 pageSize보다 적으면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+    }
+
+    @Override
+    public Page<Long> searchIds(PostSearchCondition condition, Pageable pageable) {
+        List<Long> ids = pageIds(condition, pageable, pageOrder(condition, pageable));
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(condition));
+    }
+
+    @Override
+    public Page<Long> searchIds(PostSearchCondition condition, Pageable pageable, long countCap) {
+        List<Long> ids = pageIds(condition, pageable, pageOrder(condition, pageable));
+        return PageableExecutionUtils.getPage(ids, pageable, () -> countUpTo(condition, countCap + 1));
+    }
+
+    @Override
+    public Page<PostSummaryDto> searchSummaries(PostSearchCondition condition, Pageable pageable) {
+        return searchSummaries(condition, pageable, () -> count(condition));
+    }
+
+    @Override
+    public Page<PostSummaryDto> searchSummaries(PostSearchCondition condition, Pageable pageable, long countCap) {
+        return searchSummaries(condition, pageable, () -> countUpTo(condition, countCap + 1));
+    }
+
+    // search와 같은 2단계 페이징이지만 2단계에서 엔티티 대신 요약 컬럼만 projection 한다
+    private Page<PostSummaryDto> searchSummaries(PostSearchCondition condition, Pageable pageable, LongSupplier totalSupplier) {
+        List<Long> ids = pageIds(condition, pageable, pageOrder(condition, pageable));
+        return PageableExecutionUtils.getPage(findSummaries(ids), pageable, totalSupplier);
+    }
+
+    @Override
+    public List<PostSummaryDto> findSummaries(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        QPost p = QPost.post;
+        QTag t = QTag.tag;
+
+        // p.category.id는 FK 컬럼을 그대로 읽으므로 categories 조인이 생기지 않는다
+        List<PostSummaryDto> rows = queryFactory
+                .select(Projections.constructor(PostSummaryDto.class,
+                        p.id, p.title, p.author, p.category.id, p.createdAt))
+                .from(p)
+                .where(p.id.in(ids))
+                .fetch();
+
+        Map<Long, List<Long>> tagIds = new HashMap<>();
+        List<Tuple> pairs = queryFactory
+                .select(p.id, t.id)
+                .from(p)
+                .join(p.tags, t)
+                .where(p.id.in(ids))
+                .fetch();
+        for (Tuple pair : pairs) {
+            tagIds.computeIfAbsent(pair.get(p.id), k -> new ArrayList<>()).add(pair.get(t.id));
+        }
+
+        Map<Long, PostSummaryDto> byId = rows.stream().collect(Collectors.toMap(PostSummaryDto::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(dto -> dto.withTagIds(tagIds.getOrDefault(dto.id(), List.of())))
+                .toList();
+    }
+
+    @Override
+    public List<PostVersion> findVersions(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        QPost p = QPost.post;
+        Map<Long, PostVersion> byId = queryFactory
+                .select(Projections.constructor(PostVersion.class, p.id, p.version))
+                .from(p)
+                .where(p.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(PostVersion::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // pageable에 정렬이 있으면 그 정렬, 없으면 검색 기본 정렬
+    private OrderSpecifier<?>[] pageOrder(PostSearchCondition condition, Pageable pageable) {
+        return pageable.getSort().isSorted()
+                ? sortOrder(pageable.getSort())
+                : searchOrder(condition.keyword());
+    }
+
+    private List<Long> pageIds(PostSearchCondition condition, Pageable pageable, OrderSpecifier<?>[] order) {
+        return idQuery(condition)
+                .orderBy(order)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    /**
+     * 키셋(seek) 페이징
+     * offset 대신 마지막 행의 (createdAt, id) 이후만 조회하므로 몇 번째 페이지든 비용이 첫 페이지와 같다.
+     * (created_at, id) 복합 인덱스를 그대로 타도록 정렬도 같은 순서로 맞춘다.
+     */
+    @Override
+    public List<Post> searchAfter(PostSearchCondition condition, PostCursor cursor, int limit) {
+        QPost p = QPost.post;
+
+        List<Long> ids = idQuery(condition)
+                .where(createdBefore(cursor))
+                .orderBy(p.createdAt.desc(), p.id.desc())
+                .limit(limit)
+                .fetch();
+        return findAllWithRelations(ids);
+    }
+
+    @Override
+    public List<Post> findAllWithRelations(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
         QPost p = QPost.post;
         QCategory c = QCategory.category;
         QTag t = QTag.tag;
 
-        JPQLQuery<Post> base = queryFactory
+        List<Post> posts = queryFactory
                 .selectFrom(p)
                 .leftJoin(p.category, c).fetchJoin()
                 .leftJoin(p.tags, t).fetchJoin()
-                .where(
-                        keywordContains(condition.keyword()),
-                        authorEq(condition.author()),
-                        categoryEq(condition.categoryId()),
-                        createdBetween(condition.from(), condition.to())
-                )
-                .distinct();
-
-        // 태그 AND 조건: 지정된 tagIds를 모두 가진 게시글만
-        if (condition.tagIds() != null && !condition.tagIds().isEmpty()) {
-            base = base.where(t.id.in(condition.tagIds()))
-                    .groupBy(p.id)
-                    .having(t.id.countDistinct().eq((long) condition.tagIds().size()));
-        }
+                .where(p.id.in(ids))
+                .distinct()
+                .fetch();
+
+        // IN 절은 순서를 보장하지 않으므로 1단계에서 조회한 ID 순서대로 재정렬
+        Map<Long, Post> byId = posts.stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
 
-        // count 쿼리 (fetchJoin 제거, groupBy 조건 유지 필요 시 동일 having 적용)
-        JPQLQuery<Long> countQuery = queryFactory
-                .select(p.id.countDistinct())
+    private JPQLQuery<Long> idQuery(PostSearchCondition condition) {
+        QPost p = QPost.post;
+        return queryFactory
+                .select(p.id)
                 .from(p)
-                .leftJoin(p.tags, t)
-                .where(
-                        keywordContains(condition.keyword()),
-                        authorEq(condition.author()),
-                        categoryEq(condition.categoryId()),
-                        createdBetween(condition.from(), condition.to())
-                );
-        if (condition.tagIds() != null && !condition.tagIds().isEmpty()) {
-            countQuery = countQuery.where(t.id.in(condition.tagIds()))
-                    .groupBy(p.id)
-                    .having(t.id.countDistinct().eq((long) condition.tagIds().size()));
-            // countDistinct over grouped set — wrap with select count(*) from (subquery) 형태가 아니므로
-            // 간단히 사이즈 재계산을 위해 실행 후 리스트 크기 사용
-            List<Long> ids = queryFactory
-                    .select(p.id)
-                    .from(p)
-                    .leftJoin(p.tags, t)
-                    .where(
-                            keywordContains(condition.keyword()),
-                            authorEq(condition.author()),
-                            categoryEq(condition.categoryId()),
-                            createdBetween(condition.from(), condition.to()),
-                            t.id.in(condition.tagIds())
-                    )
-                    .groupBy(p.id)
-                    .having(t.id.countDistinct().eq((long) condition.tagIds().size()))
-                    .fetch();
-            long total = ids.size();
-            List<Post> content = base
-                    .orderBy(p.id.desc())
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-            return new PageImpl<>(content, pageable, total);
+                .where(filters(condition));
+    }
+
+    private Predicate[] filters(PostSearchCondition condition) {
+        return new Predicate[]{
+                keywordContains(condition.keyword()),
+                authorEq(condition.author()),
+                categoryEq(condition.categoryId()),
+                createdBetween(condition.from(), condition.to()),
+                tagsContainAll(condition.tagIds())
+        };
+    }
+
+    // 태그 조건도 서브쿼리로 표현되므로 단일 count 쿼리로 DB에서 총 건수를 계산한다
+    @Override
+    public long count(PostSearchCondition condition) {
+        QPost p = QPost.post;
+        Long total = queryFactory
+                .select(p.count())
+                .from(p)
+                .where(filters(condition))
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    /**
+     * 최대 limit건까지만 세는 상한 count (UI의 "10,000+" 표시용)
+     * select count(*) from (select ... limit :limit) — DB가 limit건에서 스캔을 멈추고 건수 한 행만 돌려준다.
+     * QueryDSL은 from 절 서브쿼리를 지원하지 않아, 같은 필터의 JPQL을 직렬화해 HQL 파생 테이블로 감싼다.
+     */
+    private long countUpTo(PostSearchCondition condition, long limit) {
+        QPost p = QPost.post;
+        JPQLQuery<Long> ids = queryFactory
+                .select(p.id.as("id"))
+                .from(p)
+                .where(filters(condition));
+        JPQLSerializer serializer = new JPQLSerializer(JPAProvider.getTemplates(em), em);
+        serializer.serialize(ids.getMetadata(), false, null);
+        TypedQuery<Long> query = em.createQuery(
+                "select count(*) from (" + serializer + " limit " + limit + ") c", Long.class);
+        JPAUtil.setConstants(query, serializer.getConstants(), ids.getMetadata().getParams());
+        return query.getSingleResult();
+    }
+
+    // 전문 검색이면 관련도(ts_rank) 높은 순, 아니면 최신 ID 순
+    private OrderSpecifier<?>[] searchOrder(String keyword) {
+        QPost p = QPost.post;
+        if (fullText && keyword != null && !keyword.isBlank()) {
+            NumberExpression<Double> rank = Expressions.numberTemplate(Double.class,
+                    "fts_rank({0}, {1})", p.id, keyword.trim());
+            return new OrderSpecifier<?>[]{rank.desc(), p.id.desc()};
         }
+        return new OrderSpecifier<?>[]{p.id.desc()};
+    }
 
-        long total = countQuery.fetchFirst() == null ? 0L : countQuery.fetchFirst();
-        List<Post> content = base
-                .orderBy(p.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        return new PageImpl<>(content, pageable, total);
+    // Pageable의 sort=필드,방향 을 QueryDSL 정렬로 변환 (동순위는 최신 ID 순)
+    // 정렬 가능한 속성은 POST_SORTS에 있는 것만 허용하고, 그 외 속성은 INVALID_INPUT (Pages와 같은 규칙)
+    private OrderSpecifier<?>[] sortOrder(Sort sort) {
+        QPost p = QPost.post;
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            ComparableExpressionBase<?> property = POST_SORTS.get(o.getProperty());
+            if (property == null) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+            orders.add(o.isAscending() ? property.asc() : property.desc());
+        }
+        orders.add(p.id.desc());
+        return orders.toArray(OrderSpecifier<?>[]::new);
     }
 
     private BooleanExpression keywordContains(String keyword) {
         if (keyword == null || keyword.isBlank()) return null;
         QPost p = QPost.post;
+        if (fullText) {
+            // PostgresFullTextFunctionContributor 참고: search_vector 컬럼의 GIN 인덱스를 사용한다
+            return Expressions.booleanTemplate("fts_match({0}, {1}) = true", p.id, keyword.trim());
+        }
         return p.title.containsIgnoreCase(keyword).or(p.content.containsIgnoreCase(keyword));
     }
 
@@ -117,6 +323,32 @@ public class PostQueryRepositoryImpl implements PostQueryRepository {
         return p.category.id.eq(categoryId);
     }
 
+    // WHERE (created_at, id) < (?, ?) — row value 비교
+    private BooleanExpression createdBefore(PostCursor cursor) {
+        if (cursor == null) return null;
+        QPost p = QPost.post;
+        return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                p.createdAt, p.id, Expressions.constant(cursor.createdAt()), Expressions.constant(cursor.id()));
+    }
+
+    // 태그 AND 조건: 지정된 tagIds를 모두 가진 게시글만 (group by/having 서브쿼리)
+    private BooleanExpression tagsContainAll(List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) return null;
+        QPost p = QPost.post;
+        QPost sp = new QPost("sp");
+        QTag st = new QTag("st");
+        long required = new HashSet<>(tagIds).size();
+        return p.id.in(
+                JPAExpressions
+                        .select(sp.id)
+                        .from(sp)
+                        .join(sp.tags, st)
+                        .where(st.id.in(tagIds))
+                        .groupBy(sp.id)
+                        .having(st.id.countDistinct().eq(required))
+        );
+    }
+
     private BooleanExpression createdBetween(java.time.LocalDate from, java.time.LocalDate to) {
         QPost p = QPost.post;
         if (from == null && to == null) return null;
@@ -1,12 +1,22 @@
 package com.github.stella.springapiboard.board.repository;
 
 import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.board.search.PostDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -17,4 +27,70 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Override
     @EntityGraph(attributePaths = {"category", "tags"})
     Page<Post> findAll(Pageable pageable);
+
+    // ETag 비교용: 버전 컬럼만 조회 (그래프 로딩 없음)
+    @Query("select p.version from Post p where p.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    // 색인 재구축용: 엔티티 대신 projection을 fetch size 단위로 스트리밍 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.github.stella.springapiboard.board.search.PostDocument(p.id, p.title, p.content) from Post p")
+    Stream<PostDocument> streamAllDocuments();
+
+    // 내보내기용: forward-only 스트리밍 (트랜잭션 안에서 사용, 읽기 전용이라 스냅샷/더티체킹 없음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select p from Post p
+            where (:categoryId is null or p.category.id = :categoryId)
+              and (:from is null or p.createdAt >= :from)
+              and (:to is null or p.createdAt < :to)
+            order by p.id
+            """)
+    Stream<Post> streamForExport(Long categoryId, LocalDateTime from, LocalDateTime to);
+
+    // 게시글 ID 목록의 (postId, tagId) 쌍 — 내보내기 청크 단위 태그 조회용
+    @Query("select p.id, t.id from Post p join p.tags t where p.id in :postIds")
+    List<Object[]> findTagIdPairs(List<Long> postIds);
+
+    // 태그 일괄 추가: 존재하는 게시글에만, 이미 붙어 있으면 건너뛰고 실제로 추가된 게시글 ID 반환
+    @Query(value = """
+            insert into post_tags (post_id, tag_id)
+            select p.id, :tagId from posts p where p.id in (:postIds)
+            on conflict do nothing
+            returning post_id
+            """, nativeQuery = true)
+    List<Long> insertTagLinks(Long tagId, Collection<Long> postIds);
+
+    // 태그 일괄 제거: 실제로 삭제된 게시글 ID 반환
+    @Query(value = """
+            delete from post_tags where tag_id = :tagId and post_id in (:postIds)
+            returning post_id
+            """, nativeQuery = true)
+    List<Long> deleteTagLinks(Long tagId, Collection<Long> postIds);
+
+    // 실시간 인기 집계용: 주어진 게시글 중 since 이후 작성된 게시글의 작성 시각
+    @Query("select p.createdAt from Post p where p.id in :ids and p.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(Collection<Long> ids, LocalDateTime since);
+
+    // 엔티티를 거치지 않은 변경도 ETag/낙관적 락에 반영되도록 버전과 수정 시각을 올린다
+    @Modifying
+    @Query("update Post p set p.version = p.version + 1, p.updatedAt = :now where p.id in :ids")
+    int touchAll(Collection<Long> ids, LocalDateTime now);
+
+    // 일괄 삭제: 게시글들의 post_tags 행을 한 번에 지우고 (postId, tagId) 쌍 반환
+    @Query(value = """
+            delete from post_tags where post_id in (:postIds)
+            returning post_id, tag_id
+            """, nativeQuery = true)
+    List<Object[]> deleteAllTagLinks(Collection<Long> postIds);
+
+    // 일괄 삭제: 엔티티를 로딩하지 않고 삭제하며 이벤트용 컬럼만 반환 (id, title, author, category_id, created_at)
+    @Query(value = """
+            delete from posts where id in (:ids)
+            returning id, title, author, category_id, created_at
+            """, nativeQuery = true)
+    List<Object[]> deleteAllReturning(Collection<Long> ids);
 }
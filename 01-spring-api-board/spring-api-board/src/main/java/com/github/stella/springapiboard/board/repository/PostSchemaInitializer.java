@@ -0,0 +1,63 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.search.PostgresFullTextFunctionContributor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * ddl-auto=update가 바꾸지 못하는 posts 스키마 변경을 맞춘다. (모두 멱등, 검색 엔진 설정과 무관)
+ * - 예전 @Lob 매핑으로 content가 oid(large object 번호)인 스키마는 text로 변환하고, 옮긴 large object는 삭제한다.
+ * - 전문 검색용 저장 생성 컬럼 search_vector를 추가한다. (최초 1회 테이블을 다시 씀, 인덱스는 PostFullTextIndexInitializer)
+ * 엔티티 매핑(content text, search_vector 참조)과 어긋난 상태로 요청을 받지 않도록 웹 서버 시작 전에 실행한다.
+ * 실패하면 애플리케이션이 시작되지 않는다.
+ */
+@Component
+public class PostSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostSchemaInitializer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        convertLargeObjectContent();
+        jdbcTemplate.execute("alter table posts add column if not exists " + PostgresFullTextFunctionContributor.SEARCH_VECTOR
+                + " tsvector generated always as (" + PostgresFullTextFunctionContributor.DOCUMENT + ") stored");
+    }
+
+    // 변환 전에 large object 번호를 임시 테이블에 모아 두었다가 변환과 같은 트랜잭션에서 unlink 한다 (pg_largeobject에 고아로 남지 않도록)
+    private void convertLargeObjectContent() {
+        List<String> type = jdbcTemplate.queryForList("""
+                select data_type from information_schema.columns
+                where table_name = 'posts' and column_name = 'content'
+                """, String.class);
+        if (type.isEmpty() || !"oid".equals(type.get(0))) return;
+        log.warn("Converting posts.content from oid to text");
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("lock table posts in access exclusive mode");
+            jdbcTemplate.execute("""
+                    create temporary table posts_content_lo on commit drop as
+                    select distinct content as loid from posts where content is not null
+                    """);
+            jdbcTemplate.execute("alter table posts alter column content type text using convert_from(lo_get(content), 'UTF8')");
+            Integer unlinked = jdbcTemplate.queryForObject("""
+                    select count(lo_unlink(l.loid)) from posts_content_lo l
+                    where exists (select 1 from pg_largeobject_metadata m where m.oid = l.loid)
+                    """, Integer.class);
+            log.info("Converted posts.content to text and unlinked {} large objects", unlinked);
+        });
+    }
+}
@@ -16,4 +16,7 @@ public interface StatsQueryRepository {
     List<StatsDtos.TopItem> findTopTags(int limit);
 
     List<StatsDtos.TopItem> findTopAuthors(int limit);
+
+    // 조회수 Top N (id, 제목, 조회수)
+    List<StatsDtos.TopItem> findMostViewedPosts(int limit);
 }
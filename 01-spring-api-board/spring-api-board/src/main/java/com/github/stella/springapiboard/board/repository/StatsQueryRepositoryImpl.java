@@ -9,10 +9,10 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.context.annotation.Primary;
-
+/**
+ * StatsQueryRepository의 네이티브 SQL 구현 (기본값, StatsRepositoryConfig 참고)
+ */
 @Repository
-@Primary
 public class StatsQueryRepositoryImpl implements StatsQueryRepository {
 
     private final EntityManager em;
@@ -113,4 +113,27 @@ public class StatsQueryRepositoryImpl implements StatsQueryRepository {
         }
         return result;
     }
+
+    @Override
+    public List<StatsDtos.TopItem> findMostViewedPosts(int limit) {
+        String sql = """
+                select p.id as id, p.title as name, p.view_count as cnt
+                from posts p
+                where p.view_count > 0
+                order by cnt desc, p.id asc
+                limit :limit
+                """;
+        Query q = em.createNativeQuery(sql);
+        q.setParameter("limit", limit);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = q.getResultList();
+        List<StatsDtos.TopItem> result = new ArrayList<>();
+        for (Object[] r : rows) {
+            Long id = ((Number) r[0]).longValue();
+            String name = (String) r[1];
+            long cnt = ((Number) r[2]).longValue();
+            result.add(new StatsDtos.TopItem(id, name, cnt));
+        }
+        return result;
+    }
 }
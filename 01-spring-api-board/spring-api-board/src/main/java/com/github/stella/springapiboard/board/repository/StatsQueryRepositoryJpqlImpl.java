@@ -116,4 +116,26 @@ public class StatsQueryRepositoryJpqlImpl implements StatsQueryRepository {
         }
         return result;
     }
+
+    @Override
+    public List<StatsDtos.TopItem> findMostViewedPosts(int limit) {
+        String jpql = """
+                select p.id, p.title, p.viewCount
+                from Post p
+                where p.viewCount > 0
+                order by p.viewCount desc, p.id asc
+                """;
+        @SuppressWarnings("unchecked")
+        TypedQuery<Object[]> q = (TypedQuery<Object[]>) (TypedQuery<?>) em.createQuery(jpql);
+        q.setMaxResults(Math.max(0, limit));
+        List<Object[]> rows = q.getResultList();
+        List<StatsDtos.TopItem> result = new ArrayList<>();
+        for (Object[] r : rows) {
+            Long id = (Long) r[0];
+            String name = (String) r[1];
+            long cnt = ((Number) r[2]).longValue();
+            result.add(new StatsDtos.TopItem(id, name, cnt));
+        }
+        return result;
+    }
 }
@@ -127,4 +127,23 @@ public class StatsQueryRepositoryQuerydslImpl implements StatsQueryRepository {
         }
         return result;
     }
+
+    @Override
+    public List<StatsDtos.TopItem> findMostViewedPosts(int limit) {
+        QPost p = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(p.id, p.title, p.viewCount)
+                .from(p)
+                .where(p.viewCount.gt(0L))
+                .orderBy(p.viewCount.desc(), p.id.asc())
+                .limit(limit)
+                .fetch();
+
+        List<StatsDtos.TopItem> result = new ArrayList<>();
+        for (Tuple row : rows) {
+            result.add(new StatsDtos.TopItem(row.get(p.id), row.get(p.title), row.get(p.viewCount)));
+        }
+        return result;
+    }
 }
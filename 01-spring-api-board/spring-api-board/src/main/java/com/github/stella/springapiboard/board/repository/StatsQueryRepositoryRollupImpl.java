@@ -0,0 +1,117 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.PostHourlyStat;
+import com.github.stella.springapiboard.board.dto.StatsDtos;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StatsQueryRepository의 롤업 테이블 기반 구현
+ * posts/post_tags를 GROUP BY 하지 않고 미리 집계된 stats_* 테이블만 읽는다. (이름은 카테고리/태그 테이블에서 조인)
+ */
+@Repository
+public class StatsQueryRepositoryRollupImpl implements StatsQueryRepository {
+
+    private final EntityManager em;
+
+    public StatsQueryRepositoryRollupImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    // 일별 수는 시간별 롤업의 all 슬롯을 날짜별로 합산한다 (하루 한 행을 모든 쓰기가 갱신하지 않도록 일별 테이블을 두지 않음)
+    @Override
+    public List<StatsDtos.DailyCount> findDailyPosts(int days) {
+        String sql = """
+                select cast(h.bucket as date) as day, sum(h.post_count) as cnt
+                from stats_hourly_posts h
+                where h.dimension = :dimension
+                  and h.dimension_id in (:dimensionIds)
+                  and h.bucket >= cast(current_date - make_interval(days => :days) as date)
+                group by day
+                having sum(h.post_count) > 0
+                order by day asc
+                """;
+        Query q = em.createNativeQuery(sql);
+        q.setParameter("dimension", PostHourlyStat.ALL);
+        q.setParameter("dimensionIds", PostHourlyStat.dimensionIds(PostHourlyStat.ALL, 0L));
+        q.setParameter("days", days);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = q.getResultList();
+        List<StatsDtos.DailyCount> result = new ArrayList<>();
+        for (Object[] r : rows) {
+            LocalDate day = (r[0] instanceof java.sql.Date sd) ? sd.toLocalDate() : (LocalDate) r[0];
+            long count = ((Number) r[1]).longValue();
+            result.add(new StatsDtos.DailyCount(day, count));
+        }
+        return result;
+    }
+
+    @Override
+    public List<StatsDtos.TopItem> findTopCategories(int limit) {
+        String sql = """
+                select c.id, c.name, coalesce(s.post_count, 0) as cnt
+                from categories c
+                left join stats_category_posts s on s.category_id = c.id
+                order by cnt desc
+                limit :limit
+                """;
+        return topItems(sql, limit);
+    }
+
+    @Override
+    public List<StatsDtos.TopItem> findTopTags(int limit) {
+        String sql = """
+                select t.id, t.name, coalesce(s.post_count, 0) as cnt
+                from tags t
+                left join stats_tag_posts s on s.tag_id = t.id
+                order by cnt desc
+                limit :limit
+                """;
+        return topItems(sql, limit);
+    }
+
+    @Override
+    public List<StatsDtos.TopItem> findTopAuthors(int limit) {
+        String sql = """
+                select null as id, s.author as name, s.post_count as cnt
+                from stats_author_posts s
+                where s.post_count > 0
+                order by cnt desc
+                limit :limit
+                """;
+        return topItems(sql, limit);
+    }
+
+    // 조회수는 posts.view_count 자체가 누적값이므로 별도 롤업 없이 조회한다
+    @Override
+    public List<StatsDtos.TopItem> findMostViewedPosts(int limit) {
+        String sql = """
+                select p.id as id, p.title as name, p.view_count as cnt
+                from posts p
+                where p.view_count > 0
+                order by cnt desc, p.id asc
+                limit :limit
+                """;
+        return topItems(sql, limit);
+    }
+
+    private List<StatsDtos.TopItem> topItems(String sql, int limit) {
+        Query q = em.createNativeQuery(sql);
+        q.setParameter("limit", limit);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = q.getResultList();
+        List<StatsDtos.TopItem> result = new ArrayList<>();
+        for (Object[] r : rows) {
+            Long id = r[0] == null ? null : ((Number) r[0]).longValue();
+            String name = (String) r[1];
+            long cnt = ((Number) r[2]).longValue();
+            result.add(new StatsDtos.TopItem(id, name, cnt));
+        }
+        return result;
+    }
+}
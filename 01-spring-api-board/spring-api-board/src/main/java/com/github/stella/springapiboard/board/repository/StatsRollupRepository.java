@@ -0,0 +1,158 @@
+package com.github.stella.springapiboard.board.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통계 롤업 테이블 갱신 전용 Repository (네이티브 upsert)
+ * 키별로 합산된 증감분을 테이블당 한 번의 multi-row upsert로 반영한다.
+ */
+@Repository
+public class StatsRollupRepository {
+
+    private final EntityManager em;
+
+    public StatsRollupRepository(EntityManager em) {
+        this.em = em;
+    }
+
+    public void addCategoryPosts(Map<Long, Long> deltas) {
+        upsert("stats_category_posts", "category_id", deltas);
+    }
+
+    public void addTagPosts(Map<Long, Long> deltas) {
+        upsert("stats_tag_posts", "tag_id", deltas);
+    }
+
+    public void addAuthorPosts(Map<String, Long> deltas) {
+        upsert("stats_author_posts", "author", deltas);
+    }
+
+    public void addHourlyPosts(Map<HourlyKey, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        StringBuilder sql = new StringBuilder(
+                "insert into stats_hourly_posts (dimension, dimension_id, bucket, post_count) values ");
+        int param = 1;
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?").append(param++).append(", ?").append(param++)
+                    .append(", ?").append(param++).append(", ?").append(param++).append(")");
+        }
+        sql.append(" on conflict (dimension, dimension_id, bucket) do update set post_count = ")
+                .append("stats_hourly_posts.post_count + excluded.post_count");
+
+        Query q = em.createNativeQuery(sql.toString());
+        param = 1;
+        for (Map.Entry<HourlyKey, Long> e : deltas.entrySet()) {
+            q.setParameter(param++, e.getKey().dimension());
+            q.setParameter(param++, e.getKey().dimensionId());
+            q.setParameter(param++, e.getKey().hour());
+            q.setParameter(param++, e.getValue());
+        }
+        q.executeUpdate();
+    }
+
+    /**
+     * 태그 일괄 추가/제거: 게시글을 로딩하지 않으므로 작성 시각별 건수를 DB에서 묶어 태그 시간별 롤업에 반영한다.
+     */
+    public void addTagHourlyPosts(Long tagId, long sign, Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        em.createNativeQuery("""
+                        insert into stats_hourly_posts (dimension, dimension_id, bucket, post_count)
+                        select 'tag', :tagId, date_trunc('hour', p.created_at), :sign * count(*)
+                        from posts p where p.id in (:postIds)
+                        group by date_trunc('hour', p.created_at)
+                        order by 3
+                        on conflict (dimension, dimension_id, bucket)
+                        do update set post_count = stats_hourly_posts.post_count + excluded.post_count
+                        """)
+                .setParameter("tagId", tagId)
+                .setParameter("sign", sign)
+                .setParameter("postIds", postIds)
+                .executeUpdate();
+    }
+
+    /**
+     * 원본 테이블(posts, post_tags)로부터 롤업 전체를 다시 계산한다.
+     * 재계산 중 게시글 쓰기가 끼어들어 증감분이 유실/중복되지 않도록 원본 테이블을 share 모드로 잠근다. (읽기는 허용)
+     * 시간별 all 행은 슬롯 0에 모은다. (조회는 슬롯을 합산)
+     */
+    public void rebuildAll() {
+        List<String> statements = List.of(
+                "lock table posts, post_tags in share mode",
+                "delete from stats_category_posts",
+                """
+                insert into stats_category_posts (category_id, post_count)
+                select p.category_id, count(*) from posts p where p.category_id is not null group by p.category_id
+                """,
+                "delete from stats_tag_posts",
+                """
+                insert into stats_tag_posts (tag_id, post_count)
+                select pt.tag_id, count(*) from post_tags pt group by pt.tag_id
+                """,
+                "delete from stats_author_posts",
+                """
+                insert into stats_author_posts (author, post_count)
+                select p.author, count(*) from posts p group by p.author
+                """,
+                "delete from stats_hourly_posts",
+                """
+                insert into stats_hourly_posts (dimension, dimension_id, bucket, post_count)
+                select 'all', 0, date_trunc('hour', p.created_at), count(*)
+                from posts p group by date_trunc('hour', p.created_at)
+                union all
+                select 'category', p.category_id, date_trunc('hour', p.created_at), count(*)
+                from posts p where p.category_id is not null group by p.category_id, date_trunc('hour', p.created_at)
+                union all
+                select 'tag', pt.tag_id, date_trunc('hour', p.created_at), count(*)
+                from post_tags pt join posts p on p.id = pt.post_id group by pt.tag_id, date_trunc('hour', p.created_at)
+                """
+        );
+        for (String sql : statements) {
+            em.createNativeQuery(sql).executeUpdate();
+        }
+    }
+
+    /**
+     * 시간별 롤업 키 (정렬 순서 = PK 순서, 갱신 순서를 고정해 데드락 방지)
+     */
+    public record HourlyKey(String dimension, long dimensionId, LocalDateTime hour) implements Comparable<HourlyKey> {
+
+        private static final Comparator<HourlyKey> ORDER = Comparator.comparing(HourlyKey::dimension)
+                .thenComparingLong(HourlyKey::dimensionId)
+                .thenComparing(HourlyKey::hour);
+
+        @Override
+        public int compareTo(HourlyKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private void upsert(String table, String keyColumn, Map<?, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        StringBuilder sql = new StringBuilder()
+                .append("insert into ").append(table).append(" (").append(keyColumn).append(", post_count) values ");
+        int param = 1;
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?").append(param++).append(", ?").append(param++).append(")");
+        }
+        sql.append(" on conflict (").append(keyColumn).append(") do update set post_count = ")
+                .append(table).append(".post_count + excluded.post_count");
+
+        Query q = em.createNativeQuery(sql.toString());
+        param = 1;
+        for (Map.Entry<?, Long> e : deltas.entrySet()) {
+            q.setParameter(param++, e.getKey());
+            q.setParameter(param++, e.getValue());
+        }
+        q.executeUpdate();
+    }
+}
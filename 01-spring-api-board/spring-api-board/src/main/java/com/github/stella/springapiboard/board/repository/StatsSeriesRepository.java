@@ -0,0 +1,56 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.PostHourlyStat;
+import com.github.stella.springapiboard.board.dto.StatsGranularity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간별 롤업(stats_hourly_posts)을 요청 단위로 합산하는 시계열 조회
+ * 1년 범위도 (dimension, dimension_id, bucket) PK 범위 스캔 + 최대 8,760행(all은 슬롯 수만큼 배) 합산이다.
+ */
+@Repository
+public class StatsSeriesRepository {
+
+    private final EntityManager em;
+
+    public StatsSeriesRepository(EntityManager em) {
+        this.em = em;
+    }
+
+    // [from, to) 구간, 게시글이 있는 버킷만 (버킷 시작 시각 오름차순)
+    public Map<LocalDateTime, Long> findPostSeries(StatsGranularity granularity, String dimension, long dimensionId,
+                                                   LocalDateTime from, LocalDateTime to) {
+        String sql = """
+                select date_trunc(cast(:unit as text), h.bucket) as b, sum(h.post_count) as c
+                from stats_hourly_posts h
+                where h.dimension = :dimension
+                  and h.dimension_id in (:dimensionIds)
+                  and h.bucket >= :from
+                  and h.bucket < :to
+                group by b
+                order by b asc
+                """;
+        Query q = em.createNativeQuery(sql);
+        q.setParameter("unit", granularity.unit());
+        q.setParameter("dimension", dimension);
+        q.setParameter("dimensionIds", PostHourlyStat.dimensionIds(dimension, dimensionId));
+        q.setParameter("from", from);
+        q.setParameter("to", to);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = q.getResultList();
+        Map<LocalDateTime, Long> result = new LinkedHashMap<>();
+        for (Object[] r : rows) {
+            LocalDateTime bucket = r[0] instanceof Timestamp ts ? ts.toLocalDateTime() : (LocalDateTime) r[0];
+            result.put(bucket, ((Number) r[1]).longValue());
+        }
+        return result;
+    }
+}
@@ -3,9 +3,12 @@ package com.github.stella.springapiboard.board.repository;
 import com.github.stella.springapiboard.board.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findBySlug(String slug);
     boolean existsBySlug(String slug);
+    List<Tag> findAllBySlugIn(Collection<String> slugs);
 }
@@ -0,0 +1,36 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.UploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadChunkRepository extends JpaRepository<UploadChunk, UploadChunk.Key> {
+
+    // 같은 offset 재전송(재시도)은 덮어쓴다. 청크 쓰기는 트랜잭션 밖에서 하므로 이 쿼리만 짧게 커밋한다
+    // 세션이 업로드 중일 때만 기록하고 마지막 활동 시각을 갱신한다 (0 반환: 세션이 없거나 완료/중단 처리 중)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            with s as (
+                update upload_sessions set updated_at = :now
+                where id = :sessionId and status = 'UPLOADING'
+                returning id
+            )
+            insert into upload_chunks (session_id, chunk_offset, length)
+            select s.id, :offset, :length from s
+            on conflict (session_id, chunk_offset) do update set length = excluded.length
+            """, nativeQuery = true)
+    int record(String sessionId, long offset, long length, LocalDateTime now);
+
+    @Query("select c from UploadChunk c where c.key.sessionId = :sessionId order by c.key.chunkOffset")
+    List<UploadChunk> findBySessionId(String sessionId);
+
+    @Modifying
+    @Query("delete from UploadChunk c where c.key.sessionId = :sessionId")
+    void deleteBySessionId(String sessionId);
+}
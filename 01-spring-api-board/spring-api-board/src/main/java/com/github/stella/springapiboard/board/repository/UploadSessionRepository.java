@@ -0,0 +1,22 @@
+package com.github.stella.springapiboard.board.repository;
+
+import com.github.stella.springapiboard.board.domain.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // 완료 처리는 세션 행을 잠가 동시 complete 요청을 직렬화한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UploadSession s where s.id = :id")
+    Optional<UploadSession> findByIdForUpdate(String id);
+
+    // 마지막 활동(updatedAt)이 threshold 이전인 세션
+    List<UploadSession> findTop100ByUpdatedAtBefore(LocalDateTime threshold);
+}
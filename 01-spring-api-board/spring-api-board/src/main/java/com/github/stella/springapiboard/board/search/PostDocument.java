@@ -0,0 +1,10 @@
+package com.github.stella.springapiboard.board.search;
+
+/**
+ * 색인 재구축 시 posts 테이블에서 스트리밍으로 읽어오는 최소 컬럼 projection
+ */
+public record PostDocument(
+        Long id,
+        String title,
+        String content
+) {}
@@ -0,0 +1,53 @@
+package com.github.stella.springapiboard.board.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 전문 검색용 GIN 인덱스(posts.search_vector)를 보장한다. (멱등)
+ * - search_vector 저장 생성 컬럼은 PostSchemaInitializer가 웹 서버 시작 전에 추가한다.
+ *   tsvector를 컬럼에 저장하므로 검색/정렬(ts_rank) 시 행마다 to_tsvector를 다시 계산하지 않는다.
+ * - 인덱스는 CONCURRENTLY로 만들어 큰 테이블에서도 쓰기를 막지 않는다. (트랜잭션 밖에서 실행)
+ *   빌드가 끝나기 전의 검색은 인덱스 없이 같은 결과를 낸다. 실패해 invalid로 남은 인덱스는 지우고 다시 만든다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "fulltext", matchIfMissing = true)
+public class PostFullTextIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PostFullTextIndexInitializer.class);
+
+    private static final String INDEX_NAME = "idx_post_search_vector";
+    // 이전 버전의 식 인덱스 (to_tsvector(title || ' ' || content))
+    private static final String LEGACY_INDEX_NAME = "idx_post_fulltext";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostFullTextIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Boolean> valid = jdbcTemplate.queryForList("""
+                select i.indisvalid from pg_index i join pg_class c on c.oid = i.indexrelid
+                where c.relname = ?
+                """, Boolean.class, INDEX_NAME);
+        if (!valid.isEmpty() && !valid.get(0)) {
+            log.warn("Dropping invalid full-text index {} left by an interrupted build", INDEX_NAME);
+            jdbcTemplate.execute("drop index concurrently if exists " + INDEX_NAME);
+        }
+        if (valid.isEmpty() || !valid.get(0)) {
+            jdbcTemplate.execute("create index concurrently if not exists " + INDEX_NAME
+                    + " on posts using gin (" + PostgresFullTextFunctionContributor.SEARCH_VECTOR + ")");
+        }
+        jdbcTemplate.execute("drop index concurrently if exists " + LEGACY_INDEX_NAME);
+        log.info("Ensured full-text index {} on posts", INDEX_NAME);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.stella.springapiboard.board.search;
+
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 역색인 동기화
+ * - 기동 시: posts 테이블을 한 번 스트리밍으로 읽어 색인을 구축한다.
+ * - 운영 중: 커밋된 PostChangedEvent만 반영한다. (롤백된 변경은 색인에 들어가지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+public class PostIndexSynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(PostIndexSynchronizer.class);
+
+    private final PostInvertedIndex index;
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    public PostIndexSynchronizer(PostInvertedIndex index,
+                                 PostRepository postRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.postRepository = postRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        index.beginRebuild();
+        // 스트림은 트랜잭션 안에서만 열려 있으므로 TransactionTemplate으로 감싼다
+        readOnlyTx.executeWithoutResult(status -> {
+            try (Stream<PostDocument> docs = postRepository.streamAllDocuments()) {
+                docs.forEach(index::rebuildDocument);
+            }
+        });
+        index.completeRebuild();
+        log.info("Built in-memory post index: {} posts in {} ms",
+                index.documentCount(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> index.upsert(event.postId(), event.after().title(), event.after().content());
+            case UPDATED -> {
+                boolean textChanged = !Objects.equals(event.before().title(), event.after().title())
+                        || !Objects.equals(event.before().content(), event.after().content());
+                if (textChanged) {
+                    index.upsert(event.postId(), event.after().title(), event.after().content());
+                }
+            }
+            case DELETED -> index.remove(event.postId());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.stella.springapiboard.board.search;
+
+import com.github.stella.springapiboard.board.dto.PostSearchDtos.PostSearchCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용에 대한 인메모리 역색인 (app.search.engine=memory)
+ * - 토큰 → PostingList(블록 단위로 압축된 게시글 ID 목록, 쓰기는 블록 하나만 재인코딩)
+ * - 게시글 → 토큰 목록 (수정/삭제 시 기존 posting 제거용)
+ * 검색은 모든 토큰을 포함하는 게시글(AND)을 최신 ID 순으로 반환한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+public class PostInvertedIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> docTerms = new HashMap<>();
+
+    // 재구축 중 이벤트로 먼저 반영된 게시글 — 재구축 스트림의 오래된 값으로 덮어쓰지 않는다
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 키워드만 있는 검색을 색인으로 처리한다. 다른 조건이 섞이면 DB 검색을 사용한다.
+    public boolean canAnswer(PostSearchCondition condition) {
+        return ready
+                && condition.keyword() != null && !condition.keyword().isBlank()
+                && (condition.author() == null || condition.author().isBlank())
+                && condition.categoryId() == null
+                && (condition.tagIds() == null || condition.tagIds().isEmpty())
+                && condition.from() == null && condition.to() == null;
+    }
+
+    public void upsert(Long postId, String title, String content) {
+        if (rebuilding) changedDuringRebuild.add(postId);
+        index(postId, title, content);
+    }
+
+    public void remove(Long postId) {
+        if (rebuilding) changedDuringRebuild.add(postId);
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드의 모든 토큰을 포함하는 게시글 ID (내림차순)
+     */
+    public long[] search(String keyword) {
+        Set<String> terms = PostTokenizer.tokenize(keyword);
+        if (terms.isEmpty()) return new long[0];
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) return new long[0];
+                lists.add(list);
+            }
+            // 가장 짧은 목록을 기준으로 나머지 목록은 건너뛰며 교집합 (긴 목록은 필요한 블록만 디코딩)
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            long[] result = lists.size() == 1 ? lists.get(0).toArray() : intersect(lists);
+            return reverse(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return docTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void beginRebuild() {
+        changedDuringRebuild.clear();
+        rebuilding = true;
+    }
+
+    void rebuildDocument(PostDocument doc) {
+        if (changedDuringRebuild.contains(doc.id())) return;
+        index(doc.id(), doc.title(), doc.content());
+    }
+
+    void completeRebuild() {
+        rebuilding = false;
+        changedDuringRebuild.clear();
+        ready = true;
+    }
+
+    private void index(Long postId, String title, String content) {
+        Set<String> terms = PostTokenizer.tokenize(title, content);
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            String[] stored = new String[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                PostingList list = postings.computeIfAbsent(term, PostingList::new);
+                list.add(postId);
+                // 토큰 문자열은 posting 키 인스턴스를 공유해 메모리를 아낀다
+                stored[i++] = list.term();
+            }
+            docTerms.put(postId, stored);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long postId) {
+        String[] terms = docTerms.remove(postId);
+        if (terms == null) return;
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) continue;
+            list.remove(postId);
+            if (list.isEmpty()) postings.remove(term);
+        }
+    }
+
+    private static long[] intersect(List<PostingList> lists) {
+        PostingList.Cursor[] cursors = new PostingList.Cursor[lists.size()];
+        for (int i = 0; i < cursors.length; i++) {
+            cursors[i] = lists.get(i).cursor();
+        }
+        long[] out = new long[lists.get(0).size()];
+        int n = 0;
+        long candidate = cursors[0].advance(Long.MIN_VALUE);
+        candidates:
+        while (candidate != PostingList.NO_MORE) {
+            for (int i = 1; i < cursors.length; i++) {
+                long found = cursors[i].advance(candidate);
+                if (found == PostingList.NO_MORE) break candidates;
+                if (found != candidate) {
+                    // 다른 목록에 없는 ID → 기준 목록을 그 목록의 다음 ID까지 건너뛴다
+                    candidate = cursors[0].advance(found);
+                    continue candidates;
+                }
+            }
+            out[n++] = candidate;
+            candidate = cursors[0].advance(candidate + 1);
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static long[] reverse(long[] ids) {
+        for (int i = 0, j = ids.length - 1; i < j; i++, j--) {
+            long tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        return ids;
+    }
+}
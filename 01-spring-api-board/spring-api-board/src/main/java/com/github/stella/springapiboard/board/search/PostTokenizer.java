@@ -0,0 +1,36 @@
+package com.github.stella.springapiboard.board.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 인메모리 색인용 토크나이저
+ * 문자/숫자가 아닌 문자로 분리하고 소문자로 정규화한다. (한글 포함, 형태소 분석은 하지 않음)
+ */
+public final class PostTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 50;
+
+    private PostTokenizer() {}
+
+    public static Set<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isEmpty()) continue;
+            int start = -1;
+            for (int i = 0; i <= text.length(); i++) {
+                boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    if (i - start <= MAX_TOKEN_LENGTH) {
+                        tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                    }
+                    start = -1;
+                }
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.stella.springapiboard.board.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * 게시글 전문 검색용 HQL 함수 등록 (PostgreSQL)
+ * - fts_match(p.id, keyword): posts.search_vector @@ plainto_tsquery
+ * - fts_rank(p.id, keyword): ts_rank 점수
+ * search_vector는 엔티티에 매핑하지 않은 저장 생성 컬럼(PostSchemaInitializer)이므로,
+ * 첫 인자로 받은 게시글 컬럼의 테이블 별칭으로 search_vector를 참조한다. (행마다 to_tsvector를 다시 계산하지 않음)
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록된다.
+ */
+public class PostgresFullTextFunctionContributor implements FunctionContributor {
+
+    static final String TS_CONFIG = "simple";
+    public static final String SEARCH_VECTOR = "search_vector";
+    // 생성 컬럼 식 (title/content는 not null, PostSchemaInitializer가 컬럼을 추가)
+    public static final String DOCUMENT = "to_tsvector('" + TS_CONFIG + "', title || ' ' || content)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().register("fts_match",
+                new SearchVectorFunction("fts_match", "(", " @@ ", "))", types.resolve(StandardBasicTypes.BOOLEAN)));
+        functionContributions.getFunctionRegistry().register("fts_rank",
+                new SearchVectorFunction("fts_rank", "ts_rank(", ", ", "))", types.resolve(StandardBasicTypes.DOUBLE)));
+    }
+
+    // prefix + {별칭}.search_vector + operator + plainto_tsquery('simple', keyword + suffix
+    private static final class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final String prefix;
+        private final String operator;
+        private final String suffix;
+
+        SearchVectorFunction(String name, String prefix, String operator, String suffix,
+                             BasicType<?> returnType) {
+            super(name, StandardArgumentsValidators.exactly(2),
+                    StandardFunctionReturnTypeResolvers.invariant(returnType), null);
+            this.prefix = prefix;
+            this.operator = operator;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                           ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+            ColumnReference column = ((Expression) arguments.get(0)).getColumnReference();
+            sqlAppender.append(prefix);
+            if (column != null && column.getQualifier() != null) {
+                sqlAppender.append(column.getQualifier());
+                sqlAppender.append('.');
+            }
+            sqlAppender.append(SEARCH_VECTOR);
+            sqlAppender.append(operator);
+            sqlAppender.append("plainto_tsquery('" + TS_CONFIG + "', ");
+            arguments.get(1).accept(walker);
+            sqlAppender.append(suffix);
+        }
+    }
+}
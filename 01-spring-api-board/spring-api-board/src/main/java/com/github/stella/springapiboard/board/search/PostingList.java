@@ -0,0 +1,211 @@
+package com.github.stella.springapiboard.board.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰의 게시글 ID 목록 (오름차순, 블록 단위 delta + varint 압축)
+ * - 최대 BLOCK_SIZE개씩 블록으로 나누고 블록별 최대 ID를 따로 둔다. (건너뛰기 포인터)
+ * - 새 게시글은 ID가 증가하므로 대부분 마지막 블록에 덧붙이기만 하고,
+ *   중간 삽입/삭제는 해당 블록 하나만 디코딩 후 재인코딩한다. (목록 길이와 무관하게 O(블록 크기))
+ * - 교집합은 Cursor.advance로 대상 ID가 없는 블록을 디코딩하지 않고 건너뛴다.
+ * 동기화는 PostInvertedIndex가 담당한다.
+ */
+final class PostingList {
+
+    static final int BLOCK_SIZE = 128;
+    // Cursor.advance 결과: 더 이상 ID 없음
+    static final long NO_MORE = Long.MAX_VALUE;
+
+    private final String term;
+    private Block[] blocks = new Block[1];
+    private long[] maxIds = new long[1]; // 블록별 최대 ID
+    private int blockCount;
+    private int size; // ID 개수
+
+    PostingList(String term) {
+        this.term = term;
+    }
+
+    String term() { return term; }
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+
+    void add(long id) {
+        if (blockCount == 0 || id > maxIds[blockCount - 1]) {
+            if (blockCount == 0 || blocks[blockCount - 1].count >= BLOCK_SIZE) {
+                insertBlock(blockCount, new Block());
+            }
+            blocks[blockCount - 1].append(id);
+            maxIds[blockCount - 1] = id;
+            size++;
+            return;
+        }
+        int b = findBlock(id, 0);
+        long[] ids = blocks[b].toArray();
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) return;
+        int insertAt = -pos - 1;
+        long[] merged = new long[ids.length + 1];
+        System.arraycopy(ids, 0, merged, 0, insertAt);
+        merged[insertAt] = id;
+        System.arraycopy(ids, insertAt, merged, insertAt + 1, ids.length - insertAt);
+        size++;
+        if (merged.length > BLOCK_SIZE * 2) {
+            // 중간 삽입이 한 블록에 몰리면 반으로 나눈다
+            int half = merged.length / 2;
+            blocks[b] = Block.of(merged, 0, half);
+            maxIds[b] = merged[half - 1];
+            insertBlock(b + 1, Block.of(merged, half, merged.length));
+            maxIds[b + 1] = merged[merged.length - 1];
+        } else {
+            blocks[b] = Block.of(merged, 0, merged.length);
+        }
+    }
+
+    void remove(long id) {
+        if (blockCount == 0 || id > maxIds[blockCount - 1]) return;
+        int b = findBlock(id, 0);
+        long[] ids = blocks[b].toArray();
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) return;
+        size--;
+        if (ids.length == 1) {
+            removeBlock(b);
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, ids.length - pos - 1);
+        blocks[b] = Block.of(ids, 0, ids.length - 1);
+        maxIds[b] = ids[ids.length - 2];
+    }
+
+    long[] toArray() {
+        long[] ids = new long[size];
+        int n = 0;
+        for (int b = 0; b < blockCount; b++) {
+            n += blocks[b].decodeInto(ids, n);
+        }
+        return ids;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    // from 이후에서 최대 ID가 id 이상인 첫 블록 (없으면 blockCount)
+    private int findBlock(long id, int from) {
+        int lo = from, hi = blockCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxIds[mid] < id) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void insertBlock(int at, Block block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            maxIds = Arrays.copyOf(maxIds, blockCount * 2);
+        }
+        System.arraycopy(blocks, at, blocks, at + 1, blockCount - at);
+        System.arraycopy(maxIds, at, maxIds, at + 1, blockCount - at);
+        blocks[at] = block;
+        blockCount++;
+    }
+
+    private void removeBlock(int at) {
+        System.arraycopy(blocks, at + 1, blocks, at, blockCount - at - 1);
+        System.arraycopy(maxIds, at + 1, maxIds, at, blockCount - at - 1);
+        blocks[--blockCount] = null;
+    }
+
+    /**
+     * 오름차순 순회 (읽기 잠금 안에서만 사용)
+     */
+    final class Cursor {
+
+        private final long[] buffer = new long[BLOCK_SIZE * 2];
+        private int block = -1;
+        private int count; // buffer에 디코딩된 ID 수
+        private int pos;
+
+        /**
+         * target 이상인 첫 ID로 이동해 반환한다. (없으면 NO_MORE)
+         * 현재 블록에 없으면 블록별 최대 ID로 건너뛰고 필요한 블록 하나만 디코딩한다.
+         */
+        long advance(long target) {
+            if (block < 0 || pos >= count || buffer[count - 1] < target) {
+                int b = findBlock(target, Math.max(block + 1, 0));
+                if (b >= blockCount) {
+                    block = blockCount;
+                    return NO_MORE;
+                }
+                block = b;
+                count = blocks[b].decodeInto(buffer, 0);
+                pos = 0;
+            }
+            while (buffer[pos] < target) pos++;
+            return buffer[pos];
+        }
+    }
+
+    private static final class Block {
+
+        private byte[] data = new byte[16];
+        private int length; // 사용 중인 바이트 수
+        private int count;  // ID 개수
+        private long last;  // 마지막(최대) ID
+
+        static Block of(long[] ids, int from, int to) {
+            Block block = new Block();
+            block.data = new byte[Math.max(16, (to - from) * 2)];
+            for (int i = from; i < to; i++) {
+                block.append(ids[i]);
+            }
+            return block;
+        }
+
+        void append(long id) {
+            writeVarLong(id - last);
+            last = id;
+            count++;
+        }
+
+        long[] toArray() {
+            long[] ids = new long[count];
+            decodeInto(ids, 0);
+            return ids;
+        }
+
+        int decodeInto(long[] out, int at) {
+            long value = 0;
+            int offset = 0;
+            for (int i = 0; i < count; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[offset++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value += delta;
+                out[at + i] = value;
+            }
+            return count;
+        }
+
+        private void writeVarLong(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+            }
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.github.stella.springapiboard.board.service;
 
+import com.github.stella.springapiboard.board.cache.ReferenceDataDictionary;
 import com.github.stella.springapiboard.board.domain.Category;
 import com.github.stella.springapiboard.board.dto.CategoryDtos;
+import com.github.stella.springapiboard.board.event.ReferenceDataChangedEvent;
 import com.github.stella.springapiboard.board.repository.CategoryRepository;
+import com.github.stella.springapiboard.common.api.Pages;
 import com.github.stella.springapiboard.common.error.CustomException;
 import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,25 +19,34 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ReferenceDataDictionary referenceData;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository,
+                           ReferenceDataDictionary referenceData,
+                           ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.referenceData = referenceData;
+        this.eventPublisher = eventPublisher;
     }
 
+    // 목록/단건 조회는 참조 데이터 사전(메모리)에서 처리
     public Page<CategoryDtos.CategoryDto> list(Pageable pageable) {
-        return categoryRepository.findAll(pageable).map(CategoryDtos.CategoryDto::from);
+        ReferenceDataDictionary.Snapshot snapshot = referenceData.snapshot();
+        return Pages.of(snapshot.categories(), pageable, ReferenceDataDictionary.Snapshot.CATEGORY_SORTS);
     }
 
     public CategoryDtos.CategoryDto get(Long id) {
-        Category c = categoryRepository.findById(id)
+        return referenceData.category(id)
+                .or(() -> categoryRepository.findById(id).map(CategoryDtos.CategoryDto::from))
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
-        return CategoryDtos.CategoryDto.from(c);
     }
 
     @Transactional
     public CategoryDtos.CategoryDto create(CategoryDtos.CreateCategoryRequest req) {
         Category c = new Category(req.name(), req.slug(), req.description());
         Category saved = categoryRepository.save(c);
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.category());
         return CategoryDtos.CategoryDto.from(saved);
     }
 
@@ -42,6 +55,7 @@ public class CategoryService {
         Category c = categoryRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
         c.update(req.name(), req.slug(), req.description());
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.category());
         return CategoryDtos.CategoryDto.from(c);
     }
 
@@ -51,5 +65,6 @@ public class CategoryService {
             throw new CustomException(ErrorCode.NOT_FOUND);
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.category());
     }
 }
@@ -0,0 +1,53 @@
+package com.github.stella.springapiboard.board.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 삭제된 첨부파일의 디스크 파일을 주기적으로 모아서 지운다.
+ * 1) 참조가 끊긴 지 유예 시간이 지난 blob → 삭제 대기열
+ * 2) 삭제 대기열 → 디스크 파일 삭제
+ * 각 단계는 batch-size건씩 별도 트랜잭션이며, skip locked로 여러 인스턴스가 동시에 실행해도 같은 행을 처리하지 않는다.
+ */
+@Component
+public class FileCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(FileCleanupJob.class);
+
+    private final FileService fileService;
+    private final Duration blobGracePeriod;
+    private final int batchSize;
+
+    public FileCleanupJob(FileService fileService,
+                          @Value("${app.storage.cleanup.blob-grace-period:PT1H}") Duration blobGracePeriod,
+                          @Value("${app.storage.cleanup.batch-size:500}") int batchSize) {
+        this.fileService = fileService;
+        this.blobGracePeriod = blobGracePeriod;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.cleanup.interval:PT10M}")
+    public void purgeFiles() {
+        int released = 0;
+        int moved;
+        do {
+            moved = fileService.releaseUnreferencedBlobs(blobGracePeriod, batchSize);
+            released += moved;
+        } while (moved == batchSize);
+
+        int total = 0;
+        int claimed;
+        do {
+            claimed = fileService.purgeDeletedFiles(batchSize);
+            total += claimed;
+        } while (claimed == batchSize);
+        if (released > 0 || total > 0) {
+            log.info("Released {} unreferenced blobs, processed {} file deletions", released, total);
+        }
+    }
+}
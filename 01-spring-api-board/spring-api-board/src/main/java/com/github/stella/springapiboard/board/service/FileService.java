@@ -4,10 +4,14 @@ import com.github.stella.springapiboard.board.domain.FileAttachment;
 import com.github.stella.springapiboard.board.domain.Post;
 import com.github.stella.springapiboard.board.dto.FileDtos;
 import com.github.stella.springapiboard.board.repository.FileAttachmentRepository;
+import com.github.stella.springapiboard.board.repository.FileBlobRepository;
+import com.github.stella.springapiboard.board.repository.FileDeletionRepository;
 import com.github.stella.springapiboard.board.repository.PostRepository;
+import com.github.stella.springapiboard.board.storage.BlobStore;
 import com.github.stella.springapiboard.common.error.CustomException;
 import com.github.stella.springapiboard.common.error.ErrorCode;
-import org.springframework.beans.factory.annotation.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
@@ -18,29 +22,34 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 public class FileService {
 
+    private static final Logger log = LoggerFactory.getLogger(FileService.class);
+
     private final FileAttachmentRepository fileAttachmentRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final FileDeletionRepository fileDeletionRepository;
     private final PostRepository postRepository;
-    private final Path uploadDir;
+    private final BlobStore blobStore;
 
     public FileService(FileAttachmentRepository fileAttachmentRepository,
+                       FileBlobRepository fileBlobRepository,
+                       FileDeletionRepository fileDeletionRepository,
                        PostRepository postRepository,
-                       @Value("${app.storage.upload-dir:uploads}") String uploadDir) {
+                       BlobStore blobStore) {
         this.fileAttachmentRepository = fileAttachmentRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileDeletionRepository = fileDeletionRepository;
         this.postRepository = postRepository;
-        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
-        try {
-            Files.createDirectories(this.uploadDir);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create upload directory: " + this.uploadDir, e);
-        }
+        this.blobStore = blobStore;
     }
 
     @Transactional
@@ -53,21 +62,42 @@ public class FileService {
             post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
         }
 
-        String originalName = sanitize(file.getOriginalFilename());
-        String savedName = UUID.randomUUID() + getExtension(originalName);
-        String contentType = file.getContentType() == null ? "application/octet-stream" : file.getContentType();
-        long size = file.getSize();
+        // 내용 해시로 저장 (같은 내용이면 받은 파일은 버리고 기존 blob 참조만 늘린다)
+        return register(blobStore.stage(file), file.getOriginalFilename(), file.getContentType(), post);
+    }
 
-        // resolve -> 위치정보를 생성
-        Path target = uploadDir.resolve(savedName);
+    /**
+     * 분할 업로드로 완성된 파일(저장소 임시 파일로 복사·해시 완료)을 첨부파일로 등록한다.
+     */
+    @Transactional
+    public FileDtos.FileDto registerUpload(BlobStore.StagedBlob staged, String originalName, String contentType, Long postId) {
+        Post post = null;
+        if (postId != null) {
+            post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        }
+        return register(staged, originalName, contentType, post);
+    }
+
+    /**
+     * 해시 잠금을 잡은 채 파일 공개와 blob 참조 증가를 한 트랜잭션에서 처리한다.
+     * 정리 작업(purgeDeletedFiles)도 같은 잠금 아래에서 참조를 확인하고 지우므로,
+     * "파일이 이미 있음 → 받은 파일 버림" 직후 그 파일이 지워지는 경합이 없다.
+     */
+    private FileDtos.FileDto register(BlobStore.StagedBlob staged, String originalName, String contentType, Post post) {
+        String name = sanitize(originalName);
+        String type = contentType == null ? "application/octet-stream" : contentType;
+        BlobStore.StoredBlob blob;
         try {
-            // transferTo -> target에 지정된 위치에 저장, toFile -> 호환성을 위해 Path->File 변환
-            file.transferTo(target.toFile());
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to save file", e);
+            fileBlobRepository.lockHash(staged.sha256());
+            blob = blobStore.publish(staged);
+        } catch (RuntimeException e) {
+            blobStore.discard(staged);
+            throw e;
         }
+        fileBlobRepository.acquire(blob.sha256(), blob.path().toString(), blob.size());
 
-        FileAttachment fa = new FileAttachment(originalName, savedName, contentType, size, target.toString(), post);
+        FileAttachment fa = new FileAttachment(name, blob.sha256(), type, blob.size(),
+                blob.path().toString(), blob.sha256(), post);
         FileAttachment saved = fileAttachmentRepository.save(fa);
         return FileDtos.FileDto.from(saved);
     }
@@ -81,6 +111,15 @@ public class FileService {
         return fileAttachmentRepository.findByPost_Id(postId).stream().map(FileDtos.FileDto::from).toList();
     }
 
+    public FileDtos.FileDownload getDownload(Long id) {
+        FileAttachment fa = fileAttachmentRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        FileDtos.FileDownload download = FileDtos.FileDownload.from(fa);
+        if (!Files.isReadable(download.path())) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        return download;
+    }
+
     public Resource loadAsResource(Long id) {
         FileAttachment fa = fileAttachmentRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
         Resource res = new FileSystemResource(fa.getPath());
@@ -90,6 +129,42 @@ public class FileService {
         return res;
     }
 
+    /**
+     * 참조가 끊긴 지 grace 이상 지난 blob을 삭제 대기열로 옮긴다 (최대 limit건)
+     * 유예 시간 동안은 같은 내용의 재업로드가 기존 blob 행을 그대로 재사용할 수 있다.
+     */
+    @Transactional
+    public int releaseUnreferencedBlobs(Duration grace, int limit) {
+        return fileBlobRepository.moveReleasedToDeletions(LocalDateTime.now().minus(grace), limit);
+    }
+
+    /**
+     * 삭제 대기열에서 최대 limit건을 꺼내 디스크 파일을 지우고, 꺼낸 건수를 반환한다.
+     * 커밋 전에 지우므로 실패해 롤백되면 다음 실행에서 다시 시도한다. (deleteIfExists라 반복해도 무방)
+     */
+    @Transactional
+    public int purgeDeletedFiles(int limit) {
+        List<String> paths = fileDeletionRepository.claim(limit);
+        if (paths.isEmpty()) return 0;
+
+        // 해시 잠금을 잡은 뒤 참조를 확인한다: 대기열에 들어간 뒤 같은 내용이 다시 등록된 blob 파일은 남겨 두고,
+        // 확인 이후 커밋까지는 같은 해시의 업로드가 공개/참조 증가를 하지 못한다 (정렬된 순서로 잠가 교착 방지)
+        List<String> names = paths.stream().map(p -> Path.of(p).getFileName().toString()).distinct().sorted().toList();
+        names.forEach(fileBlobRepository::lockHash);
+        Set<String> live = new HashSet<>(fileBlobRepository.findExistingIds(names));
+        for (String path : paths) {
+            Path file = Path.of(path);
+            if (live.contains(file.getFileName().toString())) continue;
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // 한 파일 때문에 대기열 전체가 막히지 않도록 기록만 하고 넘어간다
+                log.warn("Failed to delete file {}", path, e);
+            }
+        }
+        return paths.size();
+    }
+
     private String sanitize(String filename) {
         if (filename == null) return "file";
         String clean = filename.replace("\\", "/");
@@ -97,9 +172,4 @@ public class FileService {
         clean = clean.replaceAll("[\r\n]", "");
         return StringUtils.hasText(clean) ? clean : "file";
     }
-
-    private String getExtension(String filename) {
-        int idx = filename.lastIndexOf('.');
-        return idx >= 0 ? filename.substring(idx) : "";
-    }
 }
@@ -0,0 +1,89 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.github.stella.springapiboard.board.dto.PostBulkDeleteDtos.PostBulkDeleteResult;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostSnapshot;
+import com.github.stella.springapiboard.board.repository.FileAttachmentRepository;
+import com.github.stella.springapiboard.board.repository.PostRepository;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 일괄 삭제 (스팸 정리 등)
+ * - 게시글 엔티티를 로딩하지 않고 ID chunk-size개씩 post_tags → file_attachments → posts 순으로 집합 단위 DELETE를 실행한다.
+ * - 첨부파일은 메타데이터만 지우고 blob 참조를 내려 두며, 디스크 파일은 FileCleanupJob이 모아서 삭제한다.
+ * - 삭제된 게시글마다 PostChangedEvent(DELETED)를 발행해 통계 롤업/색인/캐시를 맞춘다. (스냅샷에 content는 없음)
+ * - 요청 전체가 하나의 트랜잭션이다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostBulkDeleteService {
+
+    private final PostRepository postRepository;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxPosts;
+
+    public PostBulkDeleteService(PostRepository postRepository,
+                                 FileAttachmentRepository fileAttachmentRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.posts.bulk-delete.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.posts.bulk-delete.max-posts:10000}") int maxPosts) {
+        this.postRepository = postRepository;
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxPosts = maxPosts;
+    }
+
+    @Transactional
+    public PostBulkDeleteResult delete(List<Long> postIds) {
+        List<Long> ids = postIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.isEmpty() || ids.size() > maxPosts) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        long attachments = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+
+            Map<Long, Set<Long>> tagIds = new HashMap<>();
+            for (Object[] r : postRepository.deleteAllTagLinks(chunk)) {
+                tagIds.computeIfAbsent(((Number) r[0]).longValue(), k -> new HashSet<>()).add(((Number) r[1]).longValue());
+            }
+            attachments += fileAttachmentRepository.deleteByPostIds(chunk, now);
+
+            for (Object[] r : postRepository.deleteAllReturning(chunk)) {
+                Long id = ((Number) r[0]).longValue();
+                PostSnapshot before = new PostSnapshot(
+                        id,
+                        (String) r[1],
+                        null,
+                        (String) r[2],
+                        r[3] == null ? null : ((Number) r[3]).longValue(),
+                        Set.copyOf(tagIds.getOrDefault(id, Set.of())),
+                        r[4] instanceof Timestamp ts ? ts.toLocalDateTime() : (LocalDateTime) r[4]
+                );
+                eventPublisher.publishEvent(PostChangedEvent.deleted(before));
+                deleted++;
+            }
+        }
+        return new PostBulkDeleteResult(ids.size(), deleted, attachments);
+    }
+}
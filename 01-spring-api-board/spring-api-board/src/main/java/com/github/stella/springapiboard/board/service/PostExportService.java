@@ -0,0 +1,132 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.board.dto.PostDto;
+import com.github.stella.springapiboard.board.dto.PostExportFormat;
+import com.github.stella.springapiboard.board.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 스트리밍 내보내기
+ * - count/offset 없이 한 번의 쿼리를 fetch size 단위로 읽어 응답 스트림에 바로 쓴다.
+ * - CHUNK_SIZE건마다 태그를 한 번에 조회하고, 쓴 엔티티는 즉시 detach 하므로 메모리 사용량은 건수와 무관하다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "id,title,content,author,categoryId,tagIds,createdAt,updatedAt,version,viewCount";
+
+    private final PostRepository postRepository;
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+
+    public PostExportService(PostRepository postRepository, EntityManager em, ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.em = em;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(Long categoryId, LocalDate from, LocalDate to, PostExportFormat format, OutputStream out) throws IOException {
+        LocalDateTime start = from == null ? null : from.atStartOfDay();
+        LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == PostExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<Post> posts = postRepository.streamForExport(categoryId, start, end)) {
+            Iterator<Post> it = posts.iterator();
+            List<Post> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, format, writer);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, format, writer);
+        }
+        writer.flush();
+    }
+
+    private void writeChunk(List<Post> chunk, PostExportFormat format, Writer writer) throws IOException {
+        if (chunk.isEmpty()) return;
+        List<Long> ids = chunk.stream().map(Post::getId).toList();
+        // 지연 로딩 컬렉션을 건드리지 않고 청크 단위 한 번의 쿼리로 태그 ID를 모은다
+        Map<Long, List<Long>> tagIds = new HashMap<>();
+        for (Object[] row : postRepository.findTagIdPairs(ids)) {
+            tagIds.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        for (Post p : chunk) {
+            PostDto dto = new PostDto(
+                    p.getId(),
+                    p.getTitle(),
+                    p.getContent(),
+                    p.getAuthor(),
+                    p.getCategory() == null ? null : p.getCategory().getId(), // 프록시 ID 접근은 초기화하지 않음
+                    tagIds.getOrDefault(p.getId(), List.of()),
+                    p.getCreatedAt(),
+                    p.getUpdatedAt(),
+                    p.getVersion(),
+                    p.getViewCount()
+            );
+            if (format == PostExportFormat.CSV) {
+                writeCsv(dto, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(dto));
+                writer.write('\n');
+            }
+            em.detach(p);
+        }
+        // 청크마다 클라이언트로 밀어낸다
+        writer.flush();
+    }
+
+    private void writeCsv(PostDto dto, Writer writer) throws IOException {
+        String tags = dto.tagIds().stream().map(String::valueOf).collect(Collectors.joining(";"));
+        writer.write(String.join(",",
+                String.valueOf(dto.id()),
+                csv(dto.title()),
+                csv(dto.content()),
+                csv(dto.author()),
+                dto.categoryId() == null ? "" : String.valueOf(dto.categoryId()),
+                tags,
+                String.valueOf(dto.createdAt()),
+                String.valueOf(dto.updatedAt()),
+                String.valueOf(dto.version()),
+                String.valueOf(dto.viewCount())));
+        writer.write('\n');
+    }
+
+    // RFC 4180: 구분자/따옴표/개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.github.stella.springapiboard.board.domain.Category;
+import com.github.stella.springapiboard.board.domain.Post;
+import com.github.stella.springapiboard.board.domain.Tag;
+import com.github.stella.springapiboard.board.dto.PostImportDtos.PostImportItem;
+import com.github.stella.springapiboard.board.dto.PostImportDtos.PostImportResult;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostSnapshot;
+import com.github.stella.springapiboard.board.repository.CategoryRepository;
+import com.github.stella.springapiboard.board.repository.TagRepository;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 대량 등록
+ * - 카테고리/태그 slug는 참조 데이터 사전에서 찾고(없는 slug만 DB 조회), 게시글에는 getReference(프록시)로 연결한다.
+ * - posts.id가 시퀀스(pooled) 할당이므로 posts/post_tags insert가 hibernate.jdbc.batch_size 단위 JDBC 배치로 나간다.
+ * - chunk-size건마다 별도 트랜잭션으로 커밋하고 영속성 컨텍스트를 비운다. (앞선 청크는 뒤 청크 실패와 무관하게 커밋됨)
+ */
+@Service
+public class PostImportService {
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public PostImportService(CategoryRepository categoryRepository,
+                             TagRepository tagRepository,
+                             EntityManager em,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.posts.import.chunk-size:500}") int chunkSize,
+                             @Value("${app.posts.import.max-items:10000}") int maxItems) {
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.em = em;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxItems = maxItems;
+    }
+
+    public PostImportResult importPosts(List<PostImportItem> items) {
+        if (items == null || items.isEmpty() || items.size() > maxItems) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        // slug -> id (모르는 slug가 하나라도 있으면 아무것도 저장하지 않고 거부)
+        // 참조 데이터 사전은 다른 인스턴스의 삭제를 늦게 알 수 있으므로 가져오기마다 DB에서 한 번에 확인한다 (FK 위반 500 방지)
+        Map<String, Long> categoryIds = resolveCategories(items);
+        Map<String, Long> tagIds = resolveTags(items);
+
+        List<Long> ids = new ArrayList<>(items.size());
+        int chunks = 0;
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<PostImportItem> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            ids.addAll(transactionTemplate.execute(status -> insertChunk(chunk, categoryIds, tagIds)));
+            chunks++;
+        }
+        return new PostImportResult(ids.size(), chunks, ids);
+    }
+
+    private List<Long> insertChunk(List<PostImportItem> chunk, Map<String, Long> categoryIds, Map<String, Long> tagIds) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (PostImportItem item : chunk) {
+            Post post = new Post(item.title(), item.content(), item.author());
+            if (item.categorySlug() != null) {
+                post.changeCategory(em.getReference(Category.class, categoryIds.get(item.categorySlug())));
+            }
+            if (item.tagSlugs() != null) {
+                item.tagSlugs().stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .forEach(slug -> post.addTag(em.getReference(Tag.class, tagIds.get(slug))));
+            }
+            em.persist(post);
+            // 롤업 등 동기 리스너는 트랜잭션(청크) 단위로 증감분을 모아 한 번에 반영한다
+            eventPublisher.publishEvent(PostChangedEvent.created(PostSnapshot.of(post)));
+            ids.add(post.getId());
+        }
+        em.flush();
+        em.clear();
+        return ids;
+    }
+
+    private Map<String, Long> resolveCategories(List<PostImportItem> items) {
+        Set<String> slugs = items.stream()
+                .map(PostImportItem::categorySlug)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (slugs.isEmpty()) return Map.of();
+        Map<String, Long> ids = new HashMap<>();
+        categoryRepository.findAllBySlugIn(slugs).forEach(e -> ids.put(e.getSlug(), e.getId()));
+        if (ids.size() != slugs.size()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return ids;
+    }
+
+    private Map<String, Long> resolveTags(List<PostImportItem> items) {
+        Set<String> slugs = items.stream()
+                .filter(item -> item.tagSlugs() != null)
+                .flatMap(item -> item.tagSlugs().stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (slugs.isEmpty()) return Map.of();
+        Map<String, Long> ids = new HashMap<>();
+        tagRepository.findAllBySlugIn(slugs).forEach(e -> ids.put(e.getSlug(), e.getId()));
+        if (ids.size() != slugs.size()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.github.stella.springapiboard.board.dto.PostRetagDtos.PostRetagResult;
+import com.github.stella.springapiboard.board.event.PostsRetaggedEvent;
+import com.github.stella.springapiboard.board.repository.PostRepository;
+import com.github.stella.springapiboard.board.repository.TagRepository;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 태그 일괄 추가/제거
+ * - 게시글 엔티티를 로딩하지 않고 post_tags에 INSERT ... SELECT / DELETE 를 직접 실행한다. (ID chunk-size개씩)
+ * - 실제로 바뀐 게시글만 버전을 올리고 PostsRetaggedEvent를 발행해 통계 롤업/캐시를 맞춘다.
+ * - 요청 전체가 하나의 트랜잭션이다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostRetagService {
+
+    private final PostRepository postRepository;
+    private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxPosts;
+
+    public PostRetagService(PostRepository postRepository,
+                            TagRepository tagRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.posts.retag.chunk-size:1000}") int chunkSize,
+                            @Value("${app.posts.retag.max-posts:10000}") int maxPosts) {
+        this.postRepository = postRepository;
+        this.tagRepository = tagRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxPosts = maxPosts;
+    }
+
+    @Transactional
+    public PostRetagResult retag(Long tagId, PostsRetaggedEvent.Action action, List<Long> postIds) {
+        List<Long> ids = postIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.isEmpty() || ids.size() > maxPosts) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        // 사전은 다른 인스턴스의 삭제를 늦게 알 수 있으므로 FK 위반 대신 NOT_FOUND가 되도록 DB로 확인한다
+        if (!tagRepository.existsById(tagId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+
+        List<Long> affected = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            affected.addAll(action == PostsRetaggedEvent.Action.ADD
+                    ? postRepository.insertTagLinks(tagId, chunk)
+                    : postRepository.deleteTagLinks(tagId, chunk));
+        }
+        if (!affected.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int from = 0; from < affected.size(); from += chunkSize) {
+                postRepository.touchAll(affected.subList(from, Math.min(from + chunkSize, affected.size())), now);
+            }
+            eventPublisher.publishEvent(new PostsRetaggedEvent(tagId, action, List.copyOf(affected)));
+        }
+        return new PostRetagResult(tagId, action, ids.size(), affected.size());
+    }
+}
@@ -3,7 +3,10 @@ package com.github.stella.springapiboard.board.service;
 import com.github.stella.springapiboard.board.dto.CreatePostRequest;
 import com.github.stella.springapiboard.board.dto.PostDto;
 import com.github.stella.springapiboard.board.dto.PostSearchDtos;
+import com.github.stella.springapiboard.board.dto.PostSummaryDto;
+import com.github.stella.springapiboard.board.dto.PostVersionDtos;
 import com.github.stella.springapiboard.board.dto.UpdatePostRequest;
+import com.github.stella.springapiboard.common.api.CursorResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,6 +16,11 @@ public interface PostService {
 
     PostDto get(Long id);
 
+    // 조건부 GET(ETag) 판단용 경량 조회
+    long getVersion(Long id);
+
+    PostVersionDtos.PageVersions listVersions(Pageable pageable);
+
     PostDto update(Long id, UpdatePostRequest req);
 
     void delete(Long id);
@@ -20,4 +28,15 @@ public interface PostService {
     Page<PostDto> list(Pageable pageable);
 
     Page<PostDto> search(PostSearchDtos.PostSearchCondition condition, Pageable pageable);
+
+    Page<PostDto> search(PostSearchDtos.PostSearchCondition condition, Pageable pageable, long countCap);
+
+    // 본문(content) 없이 목록 표시용 요약만 조회
+    Page<PostSummaryDto> listSummaries(Pageable pageable);
+
+    Page<PostSummaryDto> searchSummaries(PostSearchDtos.PostSearchCondition condition, Pageable pageable);
+
+    Page<PostSummaryDto> searchSummaries(PostSearchDtos.PostSearchCondition condition, Pageable pageable, long countCap);
+
+    CursorResponse<PostDto> scroll(PostSearchDtos.PostSearchCondition condition, String cursor, int size);
 }
@@ -1,41 +1,93 @@
 package com.github.stella.springapiboard.board.service;
 
+import com.github.stella.springapiboard.board.cache.PostNearCache;
+import com.github.stella.springapiboard.board.cache.PostSearchCache;
 import com.github.stella.springapiboard.board.domain.Category;
 import com.github.stella.springapiboard.board.domain.Post;
 import com.github.stella.springapiboard.board.domain.Tag;
 import com.github.stella.springapiboard.board.dto.CreatePostRequest;
+import com.github.stella.springapiboard.board.dto.PostCursor;
 import com.github.stella.springapiboard.board.dto.PostDto;
 import com.github.stella.springapiboard.board.dto.UpdatePostRequest;
 import com.github.stella.springapiboard.board.dto.PostSearchDtos;
+import com.github.stella.springapiboard.board.dto.PostSummaryDto;
+import com.github.stella.springapiboard.board.dto.PostVersionDtos;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostSnapshot;
 import com.github.stella.springapiboard.board.repository.PostQueryRepository;
 import com.github.stella.springapiboard.board.repository.CategoryRepository;
+import com.github.stella.springapiboard.board.repository.FileAttachmentRepository;
 import com.github.stella.springapiboard.board.repository.PostRepository;
 import com.github.stella.springapiboard.board.repository.TagRepository;
+import com.github.stella.springapiboard.board.search.PostInvertedIndex;
+import com.github.stella.springapiboard.common.api.CursorResponse;
 import com.github.stella.springapiboard.common.error.CustomException;
 import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class PostServiceImpl implements PostService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
     private final PostQueryRepository postQueryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // app.search.engine=memory 일 때만 등록되는 인메모리 역색인
+    private final ObjectProvider<PostInvertedIndex> postIndex;
+    // 단건 조회 로컬 캐시 (PostChangedEvent 커밋 후 무효화)
+    private final PostNearCache nearCache;
+    // 검색/목록 결과(ID 페이지) 캐시
+    private final PostSearchCache searchCache;
+    // 삭제 시 첨부파일 메타데이터 정리 (파일은 FileCleanupJob이 삭제)
+    private final FileAttachmentRepository fileAttachmentRepository;
+    // 캐시 적재용 트랜잭션: 호출 측 readOnly 트랜잭션과 무관하게 프라이머리에서 읽는다
+    private final TransactionTemplate primaryTx;
+
     public PostServiceImpl(PostRepository postRepository,
                            CategoryRepository categoryRepository,
                            TagRepository tagRepository,
-                           PostQueryRepository postQueryRepository) {
+                           PostQueryRepository postQueryRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           ObjectProvider<PostInvertedIndex> postIndex,
+                           PostNearCache nearCache,
+                           PostSearchCache searchCache,
+                           FileAttachmentRepository fileAttachmentRepository,
+                           PlatformTransactionManager transactionManager) {
         this.postRepository = postRepository;
         this.categoryRepository = categoryRepository;
         this.tagRepository = tagRepository;
         this.postQueryRepository = postQueryRepository;
+        this.eventPublisher = eventPublisher;
+        this.postIndex = postIndex;
+        this.nearCache = nearCache;
+        this.searchCache = searchCache;
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        // readOnly로 두지 않는다: 읽기/쓰기 분리 시 LazyConnectionDataSourceProxy가 프라이머리 커넥션을 쓰도록
+        this.primaryTx = new TransactionTemplate(transactionManager);
+        this.primaryTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
@@ -44,64 +96,214 @@ public class PostServiceImpl implements PostService {
         Post post = new Post(req.title(), req.content(), req.author());
 
         if (req.categoryId() != null) {
-            Category category = categoryRepository.findById(req.categoryId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
-            post.changeCategory(category);
+            post.changeCategory(categoryReference(req.categoryId()));
         }
         if (req.tagIds() != null && !req.tagIds().isEmpty()) {
-            List<Tag> tags = tagRepository.findAllById(req.tagIds());
-            tags.forEach(post::addTag);
+            existingTagIds(req.tagIds()).stream().map(tagRepository::getReferenceById).forEach(post::addTag);
         }
 
         Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.created(PostSnapshot.of(saved)));
         return PostDto.from(saved);
     }
 
+    // 캐시 조회는 트랜잭션 밖에서 하고, 적재(loader)만 프라이머리 트랜잭션으로 감싼다
+    // - 캐시 적중 시 트랜잭션/EntityManager를 열지 않는다
+    // - 읽기/쓰기 분리 시 복제 지연된 값이 커밋 후 무효화된 캐시에 다시 채워지지 않도록 프라이머리에서 읽는다
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostDto get(Long id) {
-        Post post = postRepository.findWithRelationsById(id)
+        return nearCache.get(id, key -> primaryTx.execute(status -> postRepository.findWithRelationsById(key)
+                .map(PostDto::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND))));
+    }
+
+    @Override
+    public long getVersion(Long id) {
+        // 캐시에 있으면 DB 조회 없이 버전 비교
+        PostDto cached = nearCache.getIfPresent(id);
+        if (cached != null) return cached.version();
+        return postRepository.findVersionById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
-        return PostDto.from(post);
+    }
+
+    @Override
+    public PostVersionDtos.PageVersions listVersions(Pageable pageable) {
+        // list/listSummaries와 같은 캐시된 ID 페이지를 사용하므로, 캐시 적중 시 ID 페이지/총 건수 쿼리가 없고
+        // 현재 페이지 게시글의 version만 PK로 조회한다
+        PostSearchCache.IdPage page = searchIds(PostSearchDtos.PostSearchCondition.empty(), pageable);
+        return new PostVersionDtos.PageVersions(postQueryRepository.findVersions(page.ids()), page.total());
     }
 
     @Override
     @Transactional
     public PostDto update(Long id, UpdatePostRequest req) {
-        Post post = postRepository.findById(id)
+        Post post = postRepository.findWithRelationsById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        PostSnapshot before = PostSnapshot.of(post);
         post.update(req.title(), req.content());
 
         if (req.categoryId() != null) {
-            Category category = categoryRepository.findById(req.categoryId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
-            post.changeCategory(category);
+            post.changeCategory(categoryReference(req.categoryId()));
         }
         if (req.tagIds() != null) {
-            post.getTags().clear();
-            if (!req.tagIds().isEmpty()) {
-                List<Tag> tags = tagRepository.findAllById(req.tagIds());
-                tags.forEach(post::addTag);
-            }
+            syncTags(post, existingTagIds(req.tagIds()));
         }
+        // @Version/수정 시각은 flush 때 갱신되므로, 응답과 이벤트가 갱신된 버전(ETag)을 담도록 먼저 flush 한다
+        postRepository.flush();
+        eventPublisher.publishEvent(PostChangedEvent.updated(before, PostSnapshot.of(post)));
         return PostDto.from(post);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!postRepository.existsById(id)) {
-            throw new CustomException(ErrorCode.NOT_FOUND);
-        }
-        postRepository.deleteById(id);
+        Post post = postRepository.findWithRelationsById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        PostSnapshot before = PostSnapshot.of(post);
+        fileAttachmentRepository.deleteByPostIds(List.of(id), LocalDateTime.now());
+        postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(before));
     }
 
     @Override
     public Page<PostDto> list(Pageable pageable) {
-        return postRepository.findAll(pageable).map(PostDto::from);
+        // listVersions(ETag)와 같은 정렬/페이지가 되도록 2단계 페이징 경로를 사용한다
+        return hydrate(searchIds(PostSearchDtos.PostSearchCondition.empty(), pageable), pageable);
     }
 
     @Override
     public Page<PostDto> search(PostSearchDtos.PostSearchCondition condition, Pageable pageable) {
-        return postQueryRepository.search(condition, pageable).map(PostDto::from);
+        PostInvertedIndex index = postIndex.getIfAvailable();
+        if (index != null && index.canAnswer(condition)) {
+            return searchFromIndex(index, condition.keyword(), pageable);
+        }
+        return hydrate(searchIds(condition, pageable), pageable);
+    }
+
+    @Override
+    public Page<PostDto> search(PostSearchDtos.PostSearchCondition condition, Pageable pageable, long countCap) {
+        PostInvertedIndex index = postIndex.getIfAvailable();
+        if (index != null && index.canAnswer(condition)) {
+            // 색인 결과는 이미 메모리에 있으므로 정확한 total을 그대로 사용한다
+            return searchFromIndex(index, condition.keyword(), pageable);
+        }
+        return hydrate(searchIds(condition, pageable, countCap), pageable);
+    }
+
+    @Override
+    public Page<PostSummaryDto> listSummaries(Pageable pageable) {
+        return hydrateSummaries(searchIds(PostSearchDtos.PostSearchCondition.empty(), pageable), pageable);
+    }
+
+    @Override
+    public Page<PostSummaryDto> searchSummaries(PostSearchDtos.PostSearchCondition condition, Pageable pageable) {
+        PostInvertedIndex index = postIndex.getIfAvailable();
+        if (index != null && index.canAnswer(condition)) {
+            return summariesFromIndex(index, condition.keyword(), pageable);
+        }
+        return hydrateSummaries(searchIds(condition, pageable), pageable);
+    }
+
+    @Override
+    public Page<PostSummaryDto> searchSummaries(PostSearchDtos.PostSearchCondition condition, Pageable pageable, long countCap) {
+        PostInvertedIndex index = postIndex.getIfAvailable();
+        if (index != null && index.canAnswer(condition)) {
+            return summariesFromIndex(index, condition.keyword(), pageable);
+        }
+        return hydrateSummaries(searchIds(condition, pageable, countCap), pageable);
+    }
+
+    // 검색 결과 캐시: 페이지 ID/total은 캐시에서, 게시글은 ID로 한 번에 로딩 (전체/요약 뷰가 같은 ID 페이지를 공유)
+    // 캐시 적재는 프라이머리에서 읽는다: 복제 지연된 결과가 epoch를 올린 뒤의 새 키에 저장되지 않도록
+    private PostSearchCache.IdPage searchIds(PostSearchDtos.PostSearchCondition condition, Pageable pageable) {
+        PostSearchDtos.PostSearchCondition normalized = PostSearchCache.normalize(condition);
+        return searchCache.get(normalized, pageable,
+                () -> primaryTx.execute(status -> postQueryRepository.searchIds(normalized, pageable)));
+    }
+
+    private PostSearchCache.IdPage searchIds(PostSearchDtos.PostSearchCondition condition, Pageable pageable, long countCap) {
+        PostSearchDtos.PostSearchCondition normalized = PostSearchCache.normalize(condition);
+        return searchCache.get(normalized, pageable, countCap,
+                () -> primaryTx.execute(status -> postQueryRepository.searchIds(normalized, pageable, countCap)));
+    }
+
+    private Page<PostDto> hydrate(PostSearchCache.IdPage page, Pageable pageable) {
+        List<PostDto> content = postQueryRepository.findAllWithRelations(page.ids()).stream()
+                .map(PostDto::from)
+                .toList();
+        return new PageImpl<>(content, pageable, page.total());
+    }
+
+    private Page<PostSummaryDto> hydrateSummaries(PostSearchCache.IdPage page, Pageable pageable) {
+        return new PageImpl<>(postQueryRepository.findSummaries(page.ids()), pageable, page.total());
+    }
+
+    // 색인에서 ID 목록/total을 구하고, 현재 페이지의 게시글만 JPA로 로딩한다
+    private Page<PostDto> searchFromIndex(PostInvertedIndex index, String keyword, Pageable pageable) {
+        long[] ids = index.search(keyword);
+        List<PostDto> content = postQueryRepository.findAllWithRelations(pageOf(ids, pageable)).stream()
+                .map(PostDto::from)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    private Page<PostSummaryDto> summariesFromIndex(PostInvertedIndex index, String keyword, Pageable pageable) {
+        long[] ids = index.search(keyword);
+        return new PageImpl<>(postQueryRepository.findSummaries(pageOf(ids, pageable)), pageable, ids.length);
+    }
+
+    private static List<Long> pageOf(long[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        return Arrays.stream(ids, from, to).boxed().toList();
+    }
+
+    @Override
+    public CursorResponse<PostDto> scroll(PostSearchDtos.PostSearchCondition condition, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        List<Post> posts = postQueryRepository.searchAfter(condition, PostCursor.decode(cursor), limit + 1);
+        boolean hasNext = posts.size() > limit;
+        List<Post> content = hasNext ? posts.subList(0, limit) : posts;
+        String nextCursor = hasNext ? PostCursor.of(content.get(content.size() - 1)).encode() : null;
+        return CursorResponse.of(content.stream().map(PostDto::from).toList(), limit, nextCursor);
+    }
+
+    /**
+     * 존재 확인은 쓰기 트랜잭션 안에서 DB로 하고, 게시글에는 프록시(getReference)로 연결한다. (엔티티 SELECT 없음)
+     * 참조 데이터 사전은 다른 인스턴스의 삭제를 refresh-interval 동안 모르므로, 사전 적중만 믿고 연결하면 FK 위반(500)이 된다.
+     */
+    private Category categoryReference(Long categoryId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        return categoryRepository.getReferenceById(categoryId);
+    }
+
+    // 없는 태그 ID는 기존과 같이 무시한다 (한 번의 findAllById로 확인)
+    private Set<Long> existingTagIds(List<Long> tagIds) {
+        List<Long> requested = tagIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.isEmpty()) return new LinkedHashSet<>();
+        Set<Long> found = new HashSet<>();
+        tagRepository.findAllById(requested).forEach(tag -> found.add(tag.getId()));
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long tagId : requested) {
+            if (found.contains(tagId)) ids.add(tagId);
+        }
+        return ids;
+    }
+
+    /**
+     * 태그 전체 재설정을 차집합으로 반영한다.
+     * 빠진 태그만 제거하고 새 태그만 추가하므로 flush 시 바뀐 post_tags 행만 delete/insert 된다.
+     */
+    private void syncTags(Post post, Set<Long> tagIds) {
+        post.getTags().removeIf(tag -> !tagIds.contains(tag.getId()));
+        Set<Long> current = post.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+        tagIds.stream()
+                .filter(tagId -> !current.contains(tagId))
+                .map(tagRepository::getReferenceById)
+                .forEach(post::addTag);
     }
-}
\ No newline at end of file
+}
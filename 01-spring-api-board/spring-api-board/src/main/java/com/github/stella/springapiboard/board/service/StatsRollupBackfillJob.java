@@ -0,0 +1,35 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.github.stella.springapiboard.board.repository.StatsRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기존 데이터로 통계 롤업 테이블을 채우는 백필 작업
+ * 롤업 도입 직후 한 번 app.stats.rollup.backfill-on-startup=true 로 기동해 실행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.stats.rollup.backfill-on-startup", havingValue = "true")
+public class StatsRollupBackfillJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsRollupBackfillJob.class);
+
+    private final StatsRollupRepository rollupRepository;
+
+    public StatsRollupBackfillJob(StatsRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        rollupRepository.rebuildAll();
+        log.info("Backfilled stats rollup tables in {} ms", System.currentTimeMillis() - started);
+    }
+}
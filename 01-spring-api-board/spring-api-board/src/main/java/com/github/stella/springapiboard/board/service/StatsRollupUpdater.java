@@ -0,0 +1,145 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.github.stella.springapiboard.board.domain.PostHourlyStat;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostSnapshot;
+import com.github.stella.springapiboard.board.event.PostsRetaggedEvent;
+import com.github.stella.springapiboard.board.repository.StatsRollupRepository;
+import com.github.stella.springapiboard.board.repository.StatsRollupRepository.HourlyKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 변경 이벤트를 받아 통계 롤업 테이블을 같은 트랜잭션 안에서 갱신한다.
+ * 트랜잭션 동안 증감분을 키별로 모아 두었다가 커밋 직전(beforeCommit)에 한 번에 upsert 하므로
+ * 여러 게시글을 다루는 트랜잭션에서도 테이블당 쿼리는 한 번이다.
+ * 키를 정렬된 순서로 갱신해 동시 트랜잭션 간 데드락을 피한다.
+ */
+@Component
+public class StatsRollupUpdater {
+
+    private final StatsRollupRepository rollupRepository;
+
+    public StatsRollupUpdater(StatsRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        RollupDelta delta = currentDelta();
+        switch (event.type()) {
+            case CREATED -> delta.add(event.after(), 1);
+            case DELETED -> delta.add(event.before(), -1);
+            case UPDATED -> delta.change(event.before(), event.after());
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush(delta);
+        }
+    }
+
+    // 태그 일괄 추가/제거: 태그 집계만 바뀐 게시글 수만큼 증감
+    @EventListener
+    public void onPostsRetagged(PostsRetaggedEvent event) {
+        RollupDelta delta = currentDelta();
+        delta.tags.merge(event.tagId(), event.delta(), Long::sum);
+        // 시간별 태그 롤업은 게시글 작성 시각이 필요하므로 DB에서 묶어 바로 반영한다
+        rollupRepository.addTagHourlyPosts(event.tagId(), Long.signum(event.delta()), event.postIds());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush(delta);
+        }
+    }
+
+    private RollupDelta currentDelta() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new RollupDelta();
+        }
+        RollupDelta delta = (RollupDelta) TransactionSynchronizationManager.getResource(this);
+        if (delta != null) return delta;
+
+        RollupDelta created = new RollupDelta();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flush(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(StatsRollupUpdater.this);
+            }
+        });
+        return created;
+    }
+
+    private void flush(RollupDelta delta) {
+        rollupRepository.addCategoryPosts(nonZero(delta.categories));
+        rollupRepository.addTagPosts(nonZero(delta.tags));
+        rollupRepository.addAuthorPosts(nonZero(delta.authors));
+        rollupRepository.addHourlyPosts(nonZero(delta.hourly));
+    }
+
+    private static <K> Map<K, Long> nonZero(Map<K, Long> deltas) {
+        deltas.values().removeIf(v -> v == 0L);
+        return deltas;
+    }
+
+    // 트랜잭션 단위로 누적되는 롤업 증감분
+    private static final class RollupDelta {
+        private final Map<Long, Long> categories = new TreeMap<>();
+        private final Map<Long, Long> tags = new TreeMap<>();
+        private final Map<String, Long> authors = new TreeMap<>();
+        private final Map<HourlyKey, Long> hourly = new TreeMap<>();
+        // 시간별 all 행은 트랜잭션마다 임의의 슬롯에 기록한다 (동시 쓰기가 한 행에 몰리지 않도록)
+        private final long allSlot = ThreadLocalRandom.current().nextInt(PostHourlyStat.ALL_SLOTS);
+
+        void add(PostSnapshot post, long sign) {
+            if (post.categoryId() != null) categories.merge(post.categoryId(), sign, Long::sum);
+            post.tagIds().forEach(tagId -> tags.merge(tagId, sign, Long::sum));
+            authors.merge(post.author(), sign, Long::sum);
+            hour(post, PostHourlyStat.ALL, allSlot, sign);
+            if (post.categoryId() != null) hour(post, PostHourlyStat.CATEGORY, post.categoryId(), sign);
+            post.tagIds().forEach(tagId -> hour(post, PostHourlyStat.TAG, tagId, sign));
+        }
+
+        // 수정: 작성일/작성자는 바뀌지 않으므로 카테고리와 태그 변경분만 반영
+        void change(PostSnapshot before, PostSnapshot after) {
+            if (!Objects.equals(before.categoryId(), after.categoryId())) {
+                if (before.categoryId() != null) {
+                    categories.merge(before.categoryId(), -1L, Long::sum);
+                    hour(before, PostHourlyStat.CATEGORY, before.categoryId(), -1L);
+                }
+                if (after.categoryId() != null) {
+                    categories.merge(after.categoryId(), 1L, Long::sum);
+                    hour(after, PostHourlyStat.CATEGORY, after.categoryId(), 1L);
+                }
+            }
+            Set<Long> oldTags = before.tagIds();
+            Set<Long> newTags = after.tagIds();
+            oldTags.stream().filter(id -> !newTags.contains(id)).forEach(id -> {
+                tags.merge(id, -1L, Long::sum);
+                hour(before, PostHourlyStat.TAG, id, -1L);
+            });
+            newTags.stream().filter(id -> !oldTags.contains(id)).forEach(id -> {
+                tags.merge(id, 1L, Long::sum);
+                hour(after, PostHourlyStat.TAG, id, 1L);
+            });
+        }
+
+        // 작성 시각이 속한 시간 버킷
+        private void hour(PostSnapshot post, String dimension, long dimensionId, long sign) {
+            if (post.createdAt() == null) return;
+            HourlyKey key = new HourlyKey(dimension, dimensionId, post.createdAt().truncatedTo(ChronoUnit.HOURS));
+            hourly.merge(key, sign, Long::sum);
+        }
+    }
+}
@@ -1,21 +1,38 @@
 package com.github.stella.springapiboard.board.service;
 
+import com.github.stella.springapiboard.board.domain.PostHourlyStat;
 import com.github.stella.springapiboard.board.dto.StatsDtos;
+import com.github.stella.springapiboard.board.dto.StatsGranularity;
 import com.github.stella.springapiboard.board.repository.StatsQueryRepository;
+import com.github.stella.springapiboard.board.repository.StatsSeriesRepository;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
 public class StatsService {
 
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 365;
+    public static final int DEFAULT_LIMIT = 5;
+    public static final int MAX_LIMIT = 100;
+    // 시계열 응답의 최대 구간 수 (시간 단위로 약 1년)
+    public static final int MAX_SERIES_POINTS = 24 * 366;
+
     private final StatsQueryRepository statsQueryRepository;
+    private final StatsSeriesRepository statsSeriesRepository;
 
-    public StatsService(StatsQueryRepository statsQueryRepository) {
+    public StatsService(StatsQueryRepository statsQueryRepository, StatsSeriesRepository statsSeriesRepository) {
         this.statsQueryRepository = statsQueryRepository;
+        this.statsSeriesRepository = statsSeriesRepository;
     }
 
     /**
@@ -23,8 +40,7 @@ public class StatsService {
      */
     @Cacheable(cacheNames = "statsDailyPosts", key = "#days")
     public List<StatsDtos.DailyCount> dailyPosts(int days) {
-        if (days <= 0) days = 30;
-        return statsQueryRepository.findDailyPosts(days);
+        return statsQueryRepository.findDailyPosts(normalizeDays(days));
     }
 
     /**
@@ -32,8 +48,7 @@ public class StatsService {
      */
     @Cacheable(cacheNames = "statsTopCategories", key = "#limit")
     public List<StatsDtos.TopItem> topCategories(int limit) {
-        if (limit <= 0) limit = 5;
-        return statsQueryRepository.findTopCategories(limit);
+        return statsQueryRepository.findTopCategories(normalizeLimit(limit));
     }
 
     /**
@@ -41,8 +56,7 @@ public class StatsService {
      */
     @Cacheable(cacheNames = "statsTopTags", key = "#limit")
     public List<StatsDtos.TopItem> topTags(int limit) {
-        if (limit <= 0) limit = 5;
-        return statsQueryRepository.findTopTags(limit);
+        return statsQueryRepository.findTopTags(normalizeLimit(limit));
     }
 
     /**
@@ -50,7 +64,70 @@ public class StatsService {
      */
     @Cacheable(cacheNames = "statsTopAuthors", key = "#limit")
     public List<StatsDtos.TopItem> topAuthors(int limit) {
-        if (limit <= 0) limit = 5;
-        return statsQueryRepository.findTopAuthors(limit);
+        return statsQueryRepository.findTopAuthors(normalizeLimit(limit));
+    }
+
+    /**
+     * 조회수 Top N 게시글
+     */
+    @Cacheable(cacheNames = "statsMostViewedPosts", key = "#limit")
+    public List<StatsDtos.TopItem> mostViewedPosts(int limit) {
+        return statsQueryRepository.findMostViewedPosts(normalizeLimit(limit));
+    }
+
+    /**
+     * [from, to) 구간의 게시글 수 시계열 (시간별 롤업을 요청 단위로 합산, 빈 구간은 0)
+     * categoryId/tagId 중 하나로 필터링할 수 있다.
+     */
+    public List<StatsDtos.SeriesPoint> postSeries(LocalDateTime from, LocalDateTime to, StatsGranularity granularity,
+                                                  Long categoryId, Long tagId) {
+        if (from == null || (categoryId != null && tagId != null)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        if (!start.isBefore(end)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        // 응답 크기 상한: 구간 수를 먼저 세어 본다
+        List<LocalDateTime> buckets = new ArrayList<>();
+        for (LocalDateTime b = start; b.isBefore(end); b = granularity.next(b)) {
+            if (buckets.size() == MAX_SERIES_POINTS) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+            buckets.add(b);
+        }
+
+        String dimension = PostHourlyStat.ALL;
+        long dimensionId = 0L;
+        if (categoryId != null) {
+            dimension = PostHourlyStat.CATEGORY;
+            dimensionId = categoryId;
+        } else if (tagId != null) {
+            dimension = PostHourlyStat.TAG;
+            dimensionId = tagId;
+        }
+        // 롤업은 시 단위이므로 끝은 올림한 시각까지 본다 (마지막 구간은 진행 중인 값)
+        LocalDateTime hourEnd = StatsGranularity.HOUR.truncate(end);
+        if (hourEnd.isBefore(end)) hourEnd = hourEnd.plusHours(1);
+        Map<LocalDateTime, Long> counts = statsSeriesRepository.findPostSeries(granularity, dimension, dimensionId, start, hourEnd);
+
+        List<StatsDtos.SeriesPoint> result = new ArrayList<>(buckets.size());
+        for (LocalDateTime b : buckets) {
+            result.add(new StatsDtos.SeriesPoint(b, counts.getOrDefault(b, 0L)));
+        }
+        return result;
+    }
+
+    // 캐시 로더(CachingConfig)와 같은 규칙을 쓰도록 공개한다
+    public static int normalizeDays(int days) {
+        if (days <= 0) return DEFAULT_DAYS;
+        return Math.min(days, MAX_DAYS);
+    }
+
+    public static int normalizeLimit(int limit) {
+        if (limit <= 0) return DEFAULT_LIMIT;
+        return Math.min(limit, MAX_LIMIT);
     }
 }
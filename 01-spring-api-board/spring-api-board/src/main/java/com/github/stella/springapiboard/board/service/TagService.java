@@ -1,10 +1,14 @@
 package com.github.stella.springapiboard.board.service;
 
+import com.github.stella.springapiboard.board.cache.ReferenceDataDictionary;
 import com.github.stella.springapiboard.board.domain.Tag;
 import com.github.stella.springapiboard.board.dto.TagDtos;
+import com.github.stella.springapiboard.board.event.ReferenceDataChangedEvent;
 import com.github.stella.springapiboard.board.repository.TagRepository;
+import com.github.stella.springapiboard.common.api.Pages;
 import com.github.stella.springapiboard.common.error.CustomException;
 import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,25 +19,34 @@ import org.springframework.transaction.annotation.Transactional;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ReferenceDataDictionary referenceData;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TagService(TagRepository tagRepository) {
+    public TagService(TagRepository tagRepository,
+                      ReferenceDataDictionary referenceData,
+                      ApplicationEventPublisher eventPublisher) {
         this.tagRepository = tagRepository;
+        this.referenceData = referenceData;
+        this.eventPublisher = eventPublisher;
     }
 
+    // 목록/단건 조회는 참조 데이터 사전(메모리)에서 처리
     public Page<TagDtos.TagDto> list(Pageable pageable) {
-        return tagRepository.findAll(pageable).map(TagDtos.TagDto::from);
+        ReferenceDataDictionary.Snapshot snapshot = referenceData.snapshot();
+        return Pages.of(snapshot.tags(), pageable, ReferenceDataDictionary.Snapshot.TAG_SORTS);
     }
 
     public TagDtos.TagDto get(Long id) {
-        Tag t = tagRepository.findById(id)
+        return referenceData.tag(id)
+                .or(() -> tagRepository.findById(id).map(TagDtos.TagDto::from))
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
-        return TagDtos.TagDto.from(t);
     }
 
     @Transactional
     public TagDtos.TagDto create(TagDtos.CreateTagRequest req) {
         Tag t = new Tag(req.name(), req.slug());
         Tag saved = tagRepository.save(t);
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.tag());
         return TagDtos.TagDto.from(saved);
     }
 
@@ -42,6 +55,7 @@ public class TagService {
         Tag t = tagRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
         t.update(req.name(), req.slug());
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.tag());
         return TagDtos.TagDto.from(t);
     }
 
@@ -51,5 +65,6 @@ public class TagService {
             throw new CustomException(ErrorCode.NOT_FOUND);
         }
         tagRepository.deleteById(id);
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.tag());
     }
 }
@@ -0,0 +1,244 @@
+package com.github.stella.springapiboard.board.service;
+
+import com.github.stella.springapiboard.board.domain.UploadChunk;
+import com.github.stella.springapiboard.board.domain.UploadSession;
+import com.github.stella.springapiboard.board.dto.FileDtos;
+import com.github.stella.springapiboard.board.dto.UploadDtos;
+import com.github.stella.springapiboard.board.repository.PostRepository;
+import com.github.stella.springapiboard.board.repository.UploadChunkRepository;
+import com.github.stella.springapiboard.board.repository.UploadSessionRepository;
+import com.github.stella.springapiboard.board.storage.BlobStore;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 재개 가능한 분할 업로드
+ * 1) initiate: 전체 크기만큼 임시 파일을 미리 할당하고 세션 발급
+ * 2) PUT chunk?offset=: 요청 본문을 해당 위치에 그대로 기록 (청크 간 순서 무관, 병렬 전송 가능)
+ * 3) complete: 모든 구간이 도착했는지 확인하고 COMPLETING으로 전환(이후 청크 쓰기/중단은 409) →
+ *    트랜잭션 밖에서 저장소로 복사하며 해시 계산 → 짧은 트랜잭션으로 첨부파일 등록 및 세션 삭제
+ */
+@Service
+@Transactional(readOnly = true)
+public class UploadService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+    private final PostRepository postRepository;
+    private final FileService fileService;
+    private final BlobStore blobStore;
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final Duration sessionTtl;
+    // readOnly가 아니므로 읽기/쓰기 분리 시에도 프라이머리를 쓴다 (initiate 직후 청크/상태 조회가 복제 지연으로 404가 되지 않도록)
+    private final TransactionTemplate tx;
+
+    public UploadService(UploadSessionRepository uploadSessionRepository,
+                         UploadChunkRepository uploadChunkRepository,
+                         PostRepository postRepository,
+                         FileService fileService,
+                         BlobStore blobStore,
+                         @Value("${app.storage.upload.max-file-size:5GB}") DataSize maxFileSize,
+                         @Value("${app.storage.upload.max-chunk-size:16MB}") DataSize maxChunkSize,
+                         @Value("${app.storage.upload.session-ttl:24h}") Duration sessionTtl,
+                         PlatformTransactionManager transactionManager) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadChunkRepository = uploadChunkRepository;
+        this.postRepository = postRepository;
+        this.fileService = fileService;
+        this.blobStore = blobStore;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.sessionTtl = sessionTtl;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public UploadDtos.UploadSessionDto initiate(UploadDtos.InitiateUploadRequest req) {
+        if (req.size() <= 0 || req.size() > maxFileSize) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        if (req.postId() != null && !postRepository.existsById(req.postId())) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        String id = UUID.randomUUID().toString();
+        Path temp = blobStore.tempFile("upload-" + id);
+        // 전체 크기로 미리 할당 (대부분의 파일시스템에서 sparse 파일로 생성됨)
+        try (RandomAccessFile file = new RandomAccessFile(temp.toFile(), "rw")) {
+            file.setLength(req.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to allocate upload file", e);
+        }
+        String contentType = req.contentType() == null ? "application/octet-stream" : req.contentType();
+        UploadSession session = uploadSessionRepository.save(
+                new UploadSession(id, req.originalName(), contentType, req.size(), temp.toString(), req.postId()));
+        return UploadDtos.UploadSessionDto.of(session, List.of(), 0);
+    }
+
+    /**
+     * 청크 기록 — 파일 쓰기 동안 DB 커넥션/트랜잭션을 잡지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadDtos.ChunkDto writeChunk(String uploadId, long offset, long length, InputStream body) {
+        UploadSession session = tx.execute(status -> uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND)));
+        if (!session.isUploading()) {
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+        // offset + length는 offset이 Long.MAX_VALUE 근처면 오버플로하므로 뺄셈으로 비교한다
+        if (offset < 0 || length <= 0 || length > maxChunkSize || offset > session.getSize() - length) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(Path.of(session.getTempPath()), StandardOpenOption.WRITE)) {
+            ReadableByteChannel source = Channels.newChannel(body);
+            // 위치 지정 쓰기: 채널의 position을 공유하지 않으므로 같은 파일에 대한 병렬 청크가 서로 간섭하지 않는다
+            while (written < length) {
+                long n = channel.transferFrom(source, offset + written, length - written);
+                if (n <= 0) break;
+                written += n;
+            }
+        } catch (NoSuchFileException e) {
+            // 쓰는 사이 중단(abort)/만료로 임시 파일이 삭제됨
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write chunk", e);
+        }
+        if (written != length) {
+            // 본문이 Content-Length보다 짧게 끊김 → 기록하지 않고 재전송 유도
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        // 쓰는 사이 complete/abort가 시작됐으면 기록하지 않는다 (complete는 이미 저장소 사본에서 해시를 계산함)
+        if (uploadChunkRepository.record(uploadId, offset, length, LocalDateTime.now()) == 0) {
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+        return new UploadDtos.ChunkDto(offset, length);
+    }
+
+    // 재개 지점 조회: 방금 기록한 청크가 보이도록 프라이머리에서 읽는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadDtos.UploadSessionDto status(String uploadId) {
+        return tx.execute(status -> {
+            UploadSession session = uploadSessionRepository.findById(uploadId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+            List<UploadChunk> chunks = uploadChunkRepository.findBySessionId(uploadId);
+            List<UploadDtos.ChunkDto> received = chunks.stream().map(UploadDtos.ChunkDto::from).toList();
+            return UploadDtos.UploadSessionDto.of(session, received, receivedBytes(chunks));
+        });
+    }
+
+    /**
+     * 완료 처리 — 수 GB 파일의 복사/해시 동안 세션 행 잠금이나 DB 커넥션을 잡지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileDtos.FileDto complete(String uploadId) {
+        // 1) 세션을 잠그고 수신 완료 확인 후 COMPLETING으로 전환 (동시 complete는 한 요청만 통과)
+        UploadSession session = tx.execute(status -> {
+            UploadSession s = uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+            if (!s.isUploading()) {
+                throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+            }
+            if (receivedBytes(uploadChunkRepository.findBySessionId(uploadId)) != s.getSize()) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+            s.beginCompletion();
+            return s;
+        });
+
+        BlobStore.StagedBlob staged = null;
+        FileDtos.FileDto file;
+        try {
+            // 2) 트랜잭션 밖: 조립된 파일을 저장소 임시 파일로 복사하며 해시 계산 (원본을 옮기지 않으므로 늦게 도착한 쓰기가 공개된 blob을 건드리지 않음)
+            staged = blobStore.stage(Path.of(session.getTempPath()));
+            BlobStore.StagedBlob copy = staged;
+            // 3) 첨부파일 등록과 세션/청크 삭제를 한 트랜잭션으로
+            file = tx.execute(status -> {
+                FileDtos.FileDto registered = fileService.registerUpload(copy,
+                        session.getOriginalName(), session.getContentType(), session.getPostId());
+                uploadChunkRepository.deleteBySessionId(uploadId);
+                uploadSessionRepository.deleteById(uploadId);
+                return registered;
+            });
+        } catch (RuntimeException e) {
+            if (staged != null) blobStore.discard(staged);
+            // 다시 시도할 수 있도록 업로드 중 상태로 되돌린다
+            tx.executeWithoutResult(status -> uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .ifPresent(UploadSession::resumeUploading));
+            throw e;
+        }
+        deleteTempFile(session);
+        return file;
+    }
+
+    @Transactional
+    public void abort(String uploadId) {
+        UploadSession session = uploadSessionRepository.findByIdForUpdate(uploadId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        if (!session.isUploading()) {
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+        discard(session);
+    }
+
+    /**
+     * 마지막 활동 후 TTL이 지난 미완료 세션 정리 (최대 100건씩)
+     */
+    @Transactional
+    public int purgeStale() {
+        List<UploadSession> stale = uploadSessionRepository.findTop100ByUpdatedAtBefore(LocalDateTime.now().minus(sessionTtl));
+        stale.forEach(this::discard);
+        return stale.size();
+    }
+
+    private void discard(UploadSession session) {
+        uploadChunkRepository.deleteBySessionId(session.getId());
+        uploadSessionRepository.delete(session);
+        deleteTempFile(session);
+    }
+
+    private void deleteTempFile(UploadSession session) {
+        try {
+            Files.deleteIfExists(Path.of(session.getTempPath()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete upload file", e);
+        }
+    }
+
+    // 수신 구간의 합집합 크기 (offset 순으로 정렬되어 있음, 재전송으로 겹친 구간은 한 번만 셈)
+    private static long receivedBytes(List<UploadChunk> chunks) {
+        long total = 0;
+        long coveredUntil = 0;
+        for (UploadChunk c : chunks) {
+            long end = c.getOffset() + c.getLength();
+            if (end <= coveredUntil) continue;
+            total += end - Math.max(c.getOffset(), coveredUntil);
+            coveredUntil = end;
+        }
+        return total;
+    }
+}
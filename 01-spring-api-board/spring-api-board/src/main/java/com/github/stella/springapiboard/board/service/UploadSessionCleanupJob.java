@@ -0,0 +1,34 @@
+package com.github.stella.springapiboard.board.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 완료되지 않고 방치된 분할 업로드(임시 파일 + 세션/청크 기록)를 주기적으로 정리한다.
+ */
+@Component
+public class UploadSessionCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionCleanupJob.class);
+
+    private final UploadService uploadService;
+
+    public UploadSessionCleanupJob(UploadService uploadService) {
+        this.uploadService = uploadService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.upload.cleanup-interval:PT1H}")
+    public void purgeStaleSessions() {
+        int total = 0;
+        int purged;
+        do {
+            purged = uploadService.purgeStale();
+            total += purged;
+        } while (purged > 0);
+        if (total > 0) {
+            log.info("Purged {} stale upload sessions", total);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.stella.springapiboard.board.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 내용 주소 기반 파일 저장소
+ * - 업로드 스트림을 한 번 읽으며 SHA-256을 계산하고, {upload-dir}/ab/cd/abcd... 경로에 저장한다. (디렉터리당 파일 수 분산)
+ * - 같은 해시의 파일이 이미 있으면 방금 받은 임시 파일을 버린다.
+ * - 새 내용은 임시 이름으로 받은 뒤 원자적 이동으로 공개하므로 동시 업로드에도 반쯤 쓰인 파일이 보이지 않는다.
+ */
+@Component
+public class BlobStore {
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public BlobStore(@Value("${app.storage.upload-dir:uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tmpDir = root.resolve("tmp");
+        try {
+            Files.createDirectories(tmpDir);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create upload directory: " + root, e);
+        }
+    }
+
+    /**
+     * 업로드를 저장소 임시 파일로 복사하면서 해시를 계산한다. (업로드 스트림은 한 번만 읽음)
+     * 결과는 publish로 공개해야 하며, 그 전까지는 다른 요청에 보이지 않는다.
+     */
+    public StagedBlob stage(MultipartFile file) {
+        Path tmp = tempFile(UUID.randomUUID().toString());
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tmp);
+            }
+            return new StagedBlob(HexFormat.of().formatHex(digest.digest()), tmp, Files.size(tmp));
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new UncheckedIOException("Failed to store file", e);
+        }
+    }
+
+    /**
+     * 이미 디스크에 있는 파일(예: 분할 업로드 결과)을 저장소 임시 파일로 복사하면서 해시를 계산한다.
+     * source는 그대로 두므로, 복사 이후 source가 바뀌어도 공개될 파일과 해시는 일치한다.
+     */
+    public StagedBlob stage(Path source) {
+        Path tmp = tempFile(UUID.randomUUID().toString());
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(source), digest)) {
+                Files.copy(in, tmp);
+            }
+            return new StagedBlob(HexFormat.of().formatHex(digest.digest()), tmp, Files.size(tmp));
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new UncheckedIOException("Failed to store file", e);
+        }
+    }
+
+    /**
+     * 준비된 파일을 해시 경로로 공개한다. 같은 내용이 이미 있으면 준비된 파일은 버린다.
+     * 정리 작업이 같은 해시의 파일을 지우는 것과 겹치지 않도록 호출자는 해시 잠금을 잡은 상태여야 한다.
+     * (FileService: 잠금 → publish → blob 참조 증가 → 커밋)
+     */
+    public StoredBlob publish(StagedBlob staged) {
+        Path target = pathOf(staged.sha256());
+        try {
+            if (Files.exists(target)) {
+                Files.deleteIfExists(staged.path());
+                return new StoredBlob(staged.sha256(), target, staged.size(), false);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(staged.path(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return new StoredBlob(staged.sha256(), target, staged.size(), true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store file", e);
+        }
+    }
+
+    // 공개하지 않기로 한 준비 파일 정리
+    public void discard(StagedBlob staged) {
+        deleteQuietly(staged.path());
+    }
+
+    // 저장소와 같은 파일시스템의 임시 경로 (원자적 이동 가능)
+    public Path tempFile(String name) {
+        return tmpDir.resolve(name);
+    }
+
+    public Path pathOf(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 원래 예외를 가리지 않는다
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 해시까지 계산했지만 아직 공개하지 않은 파일
+    public record StagedBlob(String sha256, Path path, long size) {}
+
+    /**
+     * @param written 이번 요청에서 새로 디스크에 기록했는지 여부 (false면 기존 blob 재사용)
+     */
+    public record StoredBlob(String sha256, Path path, long size, boolean written) {}
+}
@@ -0,0 +1,82 @@
+package com.github.stella.springapiboard.board.trending;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 슬라이딩 윈도 Top-K
+ * - 윈도를 slots개의 고정 길이 슬롯(링 버퍼)으로 나누고 슬롯마다 SpaceSavingSketch를 둔다.
+ * - 기록은 시각이 속한 슬롯에 O(1)로 반영하고, 슬롯이 재사용될 때(한 바퀴 지난 뒤) 비운다.
+ * - 조회는 최근 N개 슬롯의 카운트를 합산해 정렬한다. (DB 조회 없음, O(N * capacity))
+ */
+final class SlidingWindowTopK<K> {
+
+    private final long slotMillis;
+    private final SpaceSavingSketch<K>[] sketches;
+    // 슬롯에 담긴 구간 번호 (epochMillis / slotMillis)
+    private final long[] epochs;
+
+    @SuppressWarnings("unchecked")
+    SlidingWindowTopK(long slotMillis, int slots, int capacity) {
+        this.slotMillis = Math.max(slotMillis, 1);
+        this.sketches = new SpaceSavingSketch[Math.max(slots, 1)];
+        this.epochs = new long[sketches.length];
+        for (int i = 0; i < sketches.length; i++) {
+            sketches[i] = new SpaceSavingSketch<>(capacity);
+            epochs[i] = Long.MIN_VALUE;
+        }
+    }
+
+    synchronized void increment(K key, long atMillis) {
+        SpaceSavingSketch<K> sketch = slot(atMillis / slotMillis, true);
+        if (sketch != null) sketch.increment(key);
+    }
+
+    // 기록된 슬롯이 아직 윈도 안에 있을 때만 감소 (이미 밀려난 슬롯이면 무시)
+    synchronized void decrement(K key, long atMillis) {
+        SpaceSavingSketch<K> sketch = slot(atMillis / slotMillis, false);
+        if (sketch != null) sketch.decrement(key);
+    }
+
+    /**
+     * nowMillis 기준 최근 slotCount개 슬롯의 합산 카운트 (내림차순, 상위 몇 개를 쓸지는 호출하는 쪽에서 정한다)
+     */
+    synchronized List<Map.Entry<K, Long>> ranking(int slotCount, long nowMillis) {
+        long current = nowMillis / slotMillis;
+        int n = Math.min(Math.max(slotCount, 1), sketches.length);
+        Map<K, Long> merged = new HashMap<>();
+        for (long epoch = current - n + 1; epoch <= current; epoch++) {
+            int index = index(epoch);
+            if (epochs[index] != epoch) continue;
+            sketches[index].forEach((key, count) -> merged.merge(key, count, Long::sum));
+        }
+        return merged.entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    long slotMillis() {
+        return slotMillis;
+    }
+
+    int slots() {
+        return sketches.length;
+    }
+
+    private SpaceSavingSketch<K> slot(long epoch, boolean create) {
+        int index = index(epoch);
+        if (epochs[index] == epoch) return sketches[index];
+        // 다른(더 오래된) 구간이 들어 있는 슬롯: 기록 시에는 비우고 재사용, 더 과거 구간은 버린다
+        if (!create || epoch < epochs[index]) return null;
+        sketches[index].clear();
+        epochs[index] = epoch;
+        return sketches[index];
+    }
+
+    private int index(long epoch) {
+        return (int) Math.floorMod(epoch, (long) sketches.length);
+    }
+}
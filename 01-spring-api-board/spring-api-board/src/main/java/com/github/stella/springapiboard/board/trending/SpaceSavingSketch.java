@@ -0,0 +1,190 @@
+package com.github.stella.springapiboard.board.trending;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Space-Saving 빈도 스케치 (Stream-Summary 구조)
+ * - 최대 capacity개의 키만 추적한다. 가득 찬 상태에서 새 키가 오면 최소 카운터를 넘겨받고(min + 1),
+ *   넘겨받은 최소값을 error로 기록한다. 실제 빈도 f에 대해 count - error <= f <= count.
+ * - 같은 카운트의 키들을 버킷으로 묶고 버킷을 카운트 오름차순 이중 연결 리스트로 유지하므로
+ *   increment/decrement는 모두 O(1)이다.
+ * - 스레드 안전하지 않다. (SlidingWindowTopK에서 동기화)
+ */
+final class SpaceSavingSketch<K> {
+
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    // 가장 작은 카운트의 버킷
+    private Bucket<K> head;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = Math.max(capacity, 1);
+        this.counters = new HashMap<>(this.capacity * 2);
+    }
+
+    void increment(K key) {
+        Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            moveUp(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter<>(key, 0);
+            counters.put(key, counter);
+            attachFirst(counter);
+            return;
+        }
+        // 최소 카운터를 새 키에 넘겨준다
+        counter = head.first;
+        counters.remove(counter.key);
+        counter.key = key;
+        counter.error = head.count;
+        counters.put(key, counter);
+        moveUp(counter);
+    }
+
+    // 추적 중인 키만 1 감소한다. (0이 되면 추적을 멈춰 자리를 비운다)
+    void decrement(K key) {
+        Counter<K> counter = counters.get(key);
+        if (counter == null) return;
+        if (counter.bucket.count <= 1) {
+            counters.remove(key);
+            detach(counter);
+            return;
+        }
+        moveDown(counter);
+        if (counter.error > counter.bucket.count) counter.error = counter.bucket.count;
+    }
+
+    // 추정 빈도 (상한값)
+    void forEach(ObjLongConsumer<K> consumer) {
+        for (Bucket<K> b = head; b != null; b = b.next) {
+            for (Counter<K> c = b.first; c != null; c = c.next) {
+                consumer.accept(c.key, b.count);
+            }
+        }
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    void clear() {
+        counters.clear();
+        head = null;
+    }
+
+    // 새 키: 카운트 1 버킷의 맨 앞에 붙인다 (increment 경로의 초기 상태)
+    private void attachFirst(Counter<K> counter) {
+        Bucket<K> target;
+        if (head != null && head.count == 1) {
+            target = head;
+        } else {
+            target = new Bucket<>(1);
+            target.next = head;
+            if (head != null) head.prev = target;
+            head = target;
+        }
+        target.add(counter);
+    }
+
+    private void moveUp(Counter<K> counter) {
+        Bucket<K> from = counter.bucket;
+        long count = from.count + 1;
+        Bucket<K> next = from.next;
+        if (next != null && next.count == count) {
+            from.remove(counter);
+            next.add(counter);
+        } else if (from.first == counter && counter.next == null) {
+            // 버킷에 혼자 있으면 버킷 카운트만 올린다
+            from.count = count;
+            return;
+        } else {
+            from.remove(counter);
+            Bucket<K> created = new Bucket<>(count);
+            created.prev = from;
+            created.next = next;
+            if (next != null) next.prev = created;
+            from.next = created;
+            created.add(counter);
+        }
+        if (from.first == null) unlink(from);
+    }
+
+    private void moveDown(Counter<K> counter) {
+        Bucket<K> from = counter.bucket;
+        long count = from.count - 1;
+        Bucket<K> prev = from.prev;
+        if (prev != null && prev.count == count) {
+            from.remove(counter);
+            prev.add(counter);
+        } else if (from.first == counter && counter.next == null) {
+            from.count = count;
+            return;
+        } else {
+            from.remove(counter);
+            Bucket<K> created = new Bucket<>(count);
+            created.prev = prev;
+            created.next = from;
+            if (prev != null) prev.next = created;
+            else head = created;
+            from.prev = created;
+            created.add(counter);
+        }
+        if (from.first == null) unlink(from);
+    }
+
+    private void detach(Counter<K> counter) {
+        Bucket<K> bucket = counter.bucket;
+        bucket.remove(counter);
+        if (bucket.first == null) unlink(bucket);
+    }
+
+    private void unlink(Bucket<K> bucket) {
+        if (bucket.prev != null) bucket.prev.next = bucket.next;
+        else head = bucket.next;
+        if (bucket.next != null) bucket.next.prev = bucket.prev;
+    }
+
+    private static final class Bucket<K> {
+        long count;
+        Bucket<K> prev;
+        Bucket<K> next;
+        Counter<K> first;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void add(Counter<K> counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = first;
+            if (first != null) first.prev = counter;
+            first = counter;
+        }
+
+        void remove(Counter<K> counter) {
+            if (counter.prev != null) counter.prev.next = counter.next;
+            else first = counter.next;
+            if (counter.next != null) counter.next.prev = counter.prev;
+            counter.prev = null;
+            counter.next = null;
+        }
+    }
+
+    private static final class Counter<K> {
+        K key;
+        long error;
+        Bucket<K> bucket;
+        Counter<K> prev;
+        Counter<K> next;
+
+        Counter(K key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+}
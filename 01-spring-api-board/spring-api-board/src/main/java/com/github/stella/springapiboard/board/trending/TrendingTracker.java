@@ -0,0 +1,141 @@
+package com.github.stella.springapiboard.board.trending;
+
+import com.github.stella.springapiboard.board.cache.ReferenceDataDictionary;
+import com.github.stella.springapiboard.board.dto.StatsDtos;
+import com.github.stella.springapiboard.board.event.PostChangedEvent;
+import com.github.stella.springapiboard.board.event.PostSnapshot;
+import com.github.stella.springapiboard.board.event.PostsRetaggedEvent;
+import com.github.stella.springapiboard.board.repository.PostRepository;
+import com.github.stella.springapiboard.board.service.StatsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 인기(trending) 카테고리/태그/작성자
+ * - 커밋된 게시글 생성/삭제와 태그 일괄 추가/제거 이벤트를 반영한다. 기록은 게시글 작성 시각의 슬롯에 O(1)로 들어가고,
+ *   삭제/태그 제거는 작성 시각 슬롯이 아직 윈도 안에 있을 때만 되돌린다.
+ * - 조회는 메모리의 스케치만 읽는다.
+ * - 인스턴스별 집계다: 이 인스턴스에서 커밋된 변경만 세므로 여러 인스턴스로 운영하면 인스턴스마다 순위가 다를 수 있고,
+ *   재시작하면 빈 상태에서 다시 쌓인다. (정확한 집계는 StatsService의 롤업 통계 사용)
+ * - Space-Saving 특성상 카운트는 상한 추정치다. (capacity보다 서로 다른 키가 많을 때만 오차가 생김)
+ */
+@Component
+public class TrendingTracker {
+
+    public enum Dimension { CATEGORY, TAG, AUTHOR }
+
+    // 태그 일괄 변경 시 작성 시각 조회의 IN 목록 크기
+    private static final int RETAG_CHUNK_SIZE = 1000;
+
+    private final SlidingWindowTopK<Long> categories;
+    private final SlidingWindowTopK<Long> tags;
+    private final SlidingWindowTopK<String> authors;
+    private final ReferenceDataDictionary referenceData;
+    private final PostRepository postRepository;
+    // 커밋 이후(AFTER_COMMIT) 호출되므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 읽는다 (프라이머리)
+    private final TransactionTemplate transactionTemplate;
+    private final long windowMillis;
+
+    public TrendingTracker(@Value("${app.stats.trending.window:PT1H}") Duration window,
+                           @Value("${app.stats.trending.slots:12}") int slots,
+                           @Value("${app.stats.trending.capacity:200}") int capacity,
+                           ReferenceDataDictionary referenceData,
+                           PostRepository postRepository,
+                           PlatformTransactionManager transactionManager) {
+        long slotMillis = Math.max(window.toMillis() / Math.max(slots, 1), 1);
+        this.windowMillis = slotMillis * slots;
+        this.categories = new SlidingWindowTopK<>(slotMillis, slots, capacity);
+        this.tags = new SlidingWindowTopK<>(slotMillis, slots, capacity);
+        this.authors = new SlidingWindowTopK<>(slotMillis, slots, capacity);
+        this.referenceData = referenceData;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> record(event.after(), true);
+            case DELETED -> record(event.before(), false);
+            case UPDATED -> { }
+        }
+    }
+
+    /**
+     * 태그 일괄 추가/제거: 이벤트에는 게시글 ID만 있으므로, 작성 시각이 윈도 안인 게시글만 DB에서 골라 태그 슬롯에 반영한다.
+     */
+    @TransactionalEventListener
+    public void onPostsRetagged(PostsRetaggedEvent event) {
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(windowMillis));
+        List<LocalDateTime> createdAts = transactionTemplate.execute(status -> {
+            List<LocalDateTime> result = new ArrayList<>();
+            for (int from = 0; from < event.postIds().size(); from += RETAG_CHUNK_SIZE) {
+                List<Long> chunk = event.postIds().subList(from, Math.min(from + RETAG_CHUNK_SIZE, event.postIds().size()));
+                result.addAll(postRepository.findCreatedAtSince(chunk, since));
+            }
+            return result;
+        });
+        boolean add = event.action() == PostsRetaggedEvent.Action.ADD;
+        for (LocalDateTime createdAt : createdAts) {
+            long at = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (add) tags.increment(event.tagId(), at);
+            else tags.decrement(event.tagId(), at);
+        }
+    }
+
+    private void record(PostSnapshot post, boolean created) {
+        long at = post.createdAt() != null
+                ? post.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        if (created) {
+            if (post.categoryId() != null) categories.increment(post.categoryId(), at);
+            post.tagIds().forEach(tagId -> tags.increment(tagId, at));
+            authors.increment(post.author(), at);
+        } else {
+            if (post.categoryId() != null) categories.decrement(post.categoryId(), at);
+            post.tagIds().forEach(tagId -> tags.decrement(tagId, at));
+            authors.decrement(post.author(), at);
+        }
+    }
+
+    /**
+     * 최근 window 동안 게시글 수 상위 limit개 (window는 설정된 최대 윈도로 제한, 슬롯 단위로 올림)
+     * 카테고리/태그 이름은 참조 데이터 사전에서 채우고, 그사이 삭제된 항목은 제외한다.
+     */
+    public List<StatsDtos.TopItem> top(Dimension dimension, Duration window, int limit) {
+        int size = StatsService.normalizeLimit(limit);
+        long now = System.currentTimeMillis();
+        return switch (dimension) {
+            case CATEGORY -> categories.ranking(slotCount(categories, window), now).stream()
+                    .flatMap(e -> referenceData.category(e.getKey()).stream()
+                            .map(c -> new StatsDtos.TopItem(c.id(), c.name(), e.getValue())))
+                    .limit(size)
+                    .toList();
+            case TAG -> tags.ranking(slotCount(tags, window), now).stream()
+                    .flatMap(e -> referenceData.tag(e.getKey()).stream()
+                            .map(t -> new StatsDtos.TopItem(t.id(), t.name(), e.getValue())))
+                    .limit(size)
+                    .toList();
+            case AUTHOR -> authors.ranking(slotCount(authors, window), now).stream()
+                    .limit(size)
+                    .map(e -> new StatsDtos.TopItem(null, e.getKey(), e.getValue()))
+                    .toList();
+        };
+    }
+
+    private static int slotCount(SlidingWindowTopK<?> topK, Duration window) {
+        long millis = Math.max(window.toMillis(), 1);
+        return (int) Math.min((millis + topK.slotMillis() - 1) / topK.slotMillis(), topK.slots());
+    }
+}
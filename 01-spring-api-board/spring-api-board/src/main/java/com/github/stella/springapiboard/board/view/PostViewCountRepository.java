@@ -0,0 +1,44 @@
+package com.github.stella.springapiboard.board.view;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 증분 일괄 반영
+ * (id, delta) 목록을 VALUES 목록으로 만들어 UPDATE ... FROM 한 문장으로 더한다.
+ */
+@Repository
+public class PostViewCountRepository {
+
+    private final EntityManager em;
+
+    public PostViewCountRepository(EntityManager em) {
+        this.em = em;
+    }
+
+    // deltas는 ID 순으로 정렬해 넘긴다 (여러 인스턴스가 동시에 반영해도 같은 순서로 행 잠금)
+    public int addViewCounts(List<Map.Entry<Long, Long>> deltas) {
+        if (deltas.isEmpty()) return 0;
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) values.append(", ");
+            values.append("(:id").append(i).append(", :delta").append(i).append(')');
+        }
+        String sql = """
+                update posts p
+                set view_count = p.view_count + v.delta
+                from (values %s) as v(id, delta)
+                where p.id = v.id
+                """.formatted(values);
+        Query q = em.createNativeQuery(sql);
+        for (int i = 0; i < deltas.size(); i++) {
+            q.setParameter("id" + i, deltas.get(i).getKey());
+            q.setParameter("delta" + i, deltas.get(i).getValue());
+        }
+        return q.executeUpdate();
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.stella.springapiboard.board.view;
+
+import com.github.stella.springapiboard.board.cache.PostNearCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * - 조회마다 DB 행을 갱신하면 인기 게시글 행에 잠금 경합이 몰리므로, 게시글별 LongAdder(스레드별 셀로 분산)에 모아 둔다.
+ * - flush-interval마다 각 adder를 sumThenReset으로 비우고, 증분을 ID 순으로 batch-size개씩 UPDATE ... FROM (VALUES ...) 한 문장으로 더한다.
+ *   adder는 맵에 그대로 두므로 반영 중에 들어온 조회도 다음 주기에 반영된다.
+ * - 한 주기 동안 조회가 없던 키만 맵에서 빼고, 뺀 adder는 다음 주기에 한 번 더 비운다. (빼기 직전에 adder를 얻은 스레드의 증가분 회수)
+ * - 대기 중인 게시글 수는 max-keys로 제한한다. (자리를 먼저 예약하므로 넘지 않음) 넘치면 새 게시글의 조회는 버리고 board.views.dropped로 센다.
+ * - 종료 시 남은 증분을 한 번 더 반영한다.
+ */
+@Component
+public class PostViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounter.class);
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // pending의 키 수 (상한 예약용)
+    private final AtomicInteger keys = new AtomicInteger();
+    // 지난 주기에 맵에서 뺀 adder (flush에서만 접근)
+    private final List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+    private final PostViewCountRepository viewCountRepository;
+    private final PostNearCache nearCache;
+    private final TransactionTemplate tx;
+    private final Counter dropped;
+    private final int maxKeys;
+    private final int batchSize;
+
+    public PostViewCounter(PostViewCountRepository viewCountRepository,
+                           PostNearCache nearCache,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry registry,
+                           @Value("${app.posts.views.max-keys:100000}") int maxKeys,
+                           @Value("${app.posts.views.batch-size:1000}") int batchSize) {
+        this.viewCountRepository = viewCountRepository;
+        this.nearCache = nearCache;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dropped = Counter.builder("board.views.dropped").register(registry);
+        this.maxKeys = maxKeys;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    public void increment(Long postId) {
+        LongAdder adder = adder(postId, true);
+        if (adder == null) {
+            dropped.increment();
+            return;
+        }
+        adder.increment();
+    }
+
+    // 키가 없으면 자리를 예약한 뒤 추가한다 (enforceCap=false: 반영 실패분 되돌리기용)
+    private LongAdder adder(Long postId, boolean enforceCap) {
+        LongAdder adder = pending.get(postId);
+        if (adder != null) return adder;
+        if (keys.incrementAndGet() > maxKeys && enforceCap) {
+            keys.decrementAndGet();
+            return null;
+        }
+        LongAdder created = new LongAdder();
+        adder = pending.putIfAbsent(postId, created);
+        if (adder != null) {
+            keys.decrementAndGet(); // 다른 스레드가 먼저 추가함
+            return adder;
+        }
+        return created;
+    }
+
+    @Scheduled(fixedDelayString = "${app.posts.views.flush-interval:PT10S}")
+    public synchronized void flush() {
+        Map<Long, Long> collected = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> r : retired) {
+            long delta = r.getValue().sumThenReset();
+            if (delta > 0) collected.merge(r.getKey(), delta, Long::sum);
+        }
+        retired.clear();
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta > 0) {
+                collected.merge(e.getKey(), delta, Long::sum);
+            } else if (pending.remove(e.getKey(), e.getValue())) {
+                keys.decrementAndGet();
+                retired.add(Map.entry(e.getKey(), e.getValue()));
+            }
+        }
+        if (collected.isEmpty()) return;
+
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>(collected.entrySet());
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                tx.executeWithoutResult(status -> viewCountRepository.addViewCounts(chunk));
+                // 캐시된 PostDto는 비우지 않고 조회수만 더한다 (인기 게시글이 매 주기 다시 로딩되지 않도록)
+                nearCache.addViewCounts(chunk);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 증분은 되돌려 다음 주기에 다시 시도한다
+                chunk.forEach(d -> adder(d.getKey(), false).add(d.getValue()));
+                log.warn("Failed to flush {} view counts", chunk.size(), e);
+            }
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -4,21 +4,37 @@ import com.github.stella.springapiboard.board.dto.FileDtos;
 import com.github.stella.springapiboard.board.service.FileService;
 import com.github.stella.springapiboard.common.api.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.core.io.Resource;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/files")
 public class FileController {
 
+    // Tomcat NIO 커넥터의 sendfile 요청 속성 (지원 시 커넥터가 커널 sendfile로 직접 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final FileService fileService;
 
     public FileController(FileService fileService) {
@@ -39,16 +55,90 @@ public class FileController {
         return ResponseEntity.ok(ApiResponse.success(dto, request.getRequestURI()));
     }
 
+    /**
+     * 파일 다운로드
+     * - ETag/Last-Modified 재검증: If-None-Match / If-Modified-Since 일치 시 304
+     * - 단일 구간 Range 요청은 206 (If-Range가 현재 버전과 다르면 전체 응답), 범위 밖이면 416
+     * - 본문은 sendfile(지원 시) 또는 FileChannel.transferTo로 힙 버퍼를 거치지 않고 전송
+     * 메타데이터는 요청당 한 번만 조회한다.
+     */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> download(@PathVariable Long id) {
-        var meta = fileService.get(id);
-        Resource resource = fileService.loadAsResource(id);
-        String filename = URLEncoder.encode(meta.originalName(), StandardCharsets.UTF_8).replaceAll("\\+", "%20");
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + filename)
-                .contentType(MediaType.parseMediaType(meta.contentType()))
-                .contentLength(meta.size())
-                .body(resource);
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var file = fileService.getDownload(id);
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag(), file.lastModified().toEpochMilli())) {
+            return;
+        }
+
+        String filename = URLEncoder.encode(file.originalName(), StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + filename);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(MediaType.parseMediaType(file.contentType()).toString());
+
+        long length = file.size();
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = singleRange(request, file);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = Math.min(range.getRangeEnd(length), length - 1);
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1); // exclusive
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // 적용할 단일 Range (없음/형식 오류/다중 구간/If-Range 불일치면 null → 전체 응답)
+    private HttpRange singleRange(HttpServletRequest request, FileDtos.FileDownload file) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), file)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            // 다중 구간(multipart/byteranges)은 지원하지 않고 전체를 보낸다 (RFC 9110 허용)
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // If-Range: 강한 ETag 또는 Last-Modified 날짜가 현재와 정확히 같을 때만 Range 적용
+    private boolean ifRangeMatches(String ifRange, FileDtos.FileDownload file) {
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"")) return ifRange.equals(file.etag());
+        try {
+            long since = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return since == file.lastModified().getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
     }
 
     @GetMapping("/posts/{postId}")
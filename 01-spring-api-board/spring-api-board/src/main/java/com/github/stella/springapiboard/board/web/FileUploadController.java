@@ -0,0 +1,74 @@
+package com.github.stella.springapiboard.board.web;
+
+import com.github.stella.springapiboard.board.dto.FileDtos;
+import com.github.stella.springapiboard.board.dto.UploadDtos;
+import com.github.stella.springapiboard.board.service.UploadService;
+import com.github.stella.springapiboard.common.api.ApiResponse;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 재개 가능한 분할 업로드
+ * POST /uploads → PUT /uploads/{id}?offset=N (본문: 원시 바이트, 병렬 가능) → POST /uploads/{id}/complete
+ * 중단된 경우 GET /uploads/{id}로 수신된 구간을 확인해 빠진 구간만 다시 보낸다.
+ */
+@RestController
+@RequestMapping("/api/v1/files/uploads")
+public class FileUploadController {
+
+    private final UploadService uploadService;
+
+    public FileUploadController(UploadService uploadService) {
+        this.uploadService = uploadService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadDtos.UploadSessionDto>> initiate(@Valid @RequestBody UploadDtos.InitiateUploadRequest req,
+                                                                             HttpServletRequest request) {
+        var dto = uploadService.initiate(req);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(dto, request.getRequestURI()));
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<UploadDtos.ChunkDto>> uploadChunk(@PathVariable String uploadId,
+                                                                        @RequestParam long offset,
+                                                                        HttpServletRequest request) throws IOException {
+        long length = request.getContentLengthLong();
+        if (length <= 0) {
+            // 청크 크기 검증을 위해 Content-Length 필수 (chunked 전송 불가)
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        var dto = uploadService.writeChunk(uploadId, offset, length, request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success(dto, request.getRequestURI()));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadDtos.UploadSessionDto>> status(@PathVariable String uploadId,
+                                                                           HttpServletRequest request) {
+        var dto = uploadService.status(uploadId);
+        return ResponseEntity.ok(ApiResponse.success(dto, request.getRequestURI()));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<FileDtos.FileDto>> complete(@PathVariable String uploadId,
+                                                                  HttpServletRequest request) {
+        var dto = uploadService.complete(uploadId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(dto, request.getRequestURI()));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> abort(@PathVariable String uploadId, HttpServletRequest request) {
+        uploadService.abort(uploadId);
+        return ResponseEntity.ok(ApiResponse.success(null, request.getRequestURI()));
+    }
+}
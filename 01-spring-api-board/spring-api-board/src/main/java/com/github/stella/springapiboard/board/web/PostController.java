@@ -1,12 +1,25 @@
 package com.github.stella.springapiboard.board.web;
 
 import com.github.stella.springapiboard.board.dto.CreatePostRequest;
+import com.github.stella.springapiboard.board.dto.PostBulkDeleteDtos;
 import com.github.stella.springapiboard.board.dto.PostDto;
+import com.github.stella.springapiboard.board.dto.PostExportFormat;
+import com.github.stella.springapiboard.board.dto.PostImportDtos;
+import com.github.stella.springapiboard.board.dto.PostRetagDtos;
+import com.github.stella.springapiboard.board.dto.PostSummaryDto;
 import com.github.stella.springapiboard.board.dto.UpdatePostRequest;
 import com.github.stella.springapiboard.board.dto.PostSearchDtos;
+import com.github.stella.springapiboard.board.service.PostExportService;
+import com.github.stella.springapiboard.board.service.PostImportService;
+import com.github.stella.springapiboard.board.service.PostBulkDeleteService;
+import com.github.stella.springapiboard.board.service.PostRetagService;
 import com.github.stella.springapiboard.board.service.PostService;
+import com.github.stella.springapiboard.board.view.PostViewCounter;
 import com.github.stella.springapiboard.common.api.ApiResponse;
+import com.github.stella.springapiboard.common.api.CursorResponse;
 import com.github.stella.springapiboard.common.api.PageResponse;
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,9 +28,16 @@ import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @Tag(name = "Posts", description = "게시글 API: CRUD, 검색")
 @RestController
@@ -25,49 +45,161 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final PostExportService postExportService;
+    private final PostImportService postImportService;
+    private final PostRetagService postRetagService;
+    private final PostBulkDeleteService postBulkDeleteService;
+    private final PostViewCounter viewCounter;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService,
+                          PostExportService postExportService,
+                          PostImportService postImportService,
+                          PostRetagService postRetagService,
+                          PostBulkDeleteService postBulkDeleteService,
+                          PostViewCounter viewCounter) {
         this.postService = postService;
+        this.postExportService = postExportService;
+        this.postImportService = postImportService;
+        this.postRetagService = postRetagService;
+        this.postBulkDeleteService = postBulkDeleteService;
+        this.viewCounter = viewCounter;
     }
 
-    @Operation(summary = "게시글 단건 조회", description = "ID로 게시글을 조회합니다.")
+    @Operation(
+            summary = "게시글 단건 조회",
+            description = "ID로 게시글을 조회합니다. 응답의 ETag를 `If-None-Match`로 보내면 변경이 없을 때 304를 반환합니다. \n"
+                    + "304 응답도 조회수에 포함되며, 조회수(viewCount)는 주기적으로 반영되는 근사값이라 ETag를 바꾸지 않습니다."
+    )
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PostDto>> get(
             @Parameter(description = "게시글 ID", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(hidden = true) WebRequest webRequest,
             // hidden = true -> Swagger에 노출 안함
             @Parameter(hidden = true) HttpServletRequest request) {
+        // 버전 컬럼만 조회해 비교하고, 바뀌었을 때만 전체 그래프를 로딩한다
+        long version = postService.getVersion(id);
+        viewCounter.increment(id);
+        if (webRequest.checkNotModified(PostEtags.of(id, version))) {
+            return null; // 304
+        }
         PostDto dto = postService.get(id);
-        return ResponseEntity.ok(ApiResponse.success(dto, request.getRequestURI()));
+        return ResponseEntity.ok()
+                .eTag(PostEtags.of(dto.id(), dto.version()))
+                .body(ApiResponse.success(dto, request.getRequestURI()));
     }
 
     @Operation(
             summary = "게시글 페이지 조회",
-            description = "페이지네이션으로 게시글 목록을 조회합니다. 정렬은 `sort=필드,ASC|DESC` 형식으로 지정합니다. 예: `sort=createdAt,DESC`"
+            description = "페이지네이션으로 게시글 목록을 조회합니다. 정렬은 `sort=필드,ASC|DESC` 형식으로 지정합니다. 예: `sort=createdAt,DESC` \n"
+                    + "`view=summary`이면 본문 없이 id/제목/작성자/카테고리/태그/작성일만 응답합니다. \n"
+                    + "응답의 ETag를 `If-None-Match`로 보내면 페이지에 변경이 없을 때 304를 반환합니다."
     )
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponse<PostDto>>> list(
+    public ResponseEntity<ApiResponse<PageResponse<?>>> list(
             @ParameterObject Pageable pageable,
+            @Parameter(description = "full(기본) | summary (본문 제외 요약)", example = "summary")
+            @RequestParam(defaultValue = "full") String view,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        boolean summary = isSummary(view);
+        // 페이지의 (id, version)과 총 건수로 ETag를 만들어 변경이 없으면 본문 조회/직렬화를 생략한다
+        String etag = PostEtags.ofPage(summary ? "summary" : "full", pageable, postService.listVersions(pageable));
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304
+        }
+        PageResponse<?> body = summary
+                ? PageResponse.from(postService.listSummaries(pageable))
+                : PageResponse.from(postService.list(pageable));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(body, request.getRequestURI()));
+    }
+
+    @Operation(
+            summary = "게시글 커서 조회",
+            description = "offset 없이 커서(키셋) 방식으로 최신순 목록을 조회합니다. 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달합니다. "
+                    + "깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다."
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<PostDto>>> scroll(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size,
             @Parameter(hidden = true) HttpServletRequest request) {
-        Page<PostDto> page = postService.list(pageable);
-        PageResponse<PostDto> body = PageResponse.from(page);
+        var body = postService.scroll(PostSearchDtos.PostSearchCondition.empty(), cursor, size);
         return ResponseEntity.ok(ApiResponse.success(body, request.getRequestURI()));
     }
 
     @Operation(
             summary = "게시글 검색",
             description = "키워드(제목/내용), 작성자, 카테고리ID, 태그ID(AND 조건), 작성일 기간(from~to)으로 검색합니다. \n"
-                    + "예: `/api/v1/posts/search?keyword=jpa&author=stella&categoryId=1&tagIds=2&tagIds=3&from=2025-01-01&to=2025-12-31`"
+                    + "기본 설정(app.search.engine=fulltext)에서 키워드는 전문 검색(단어 단위 AND)으로 처리되며 관련도 순으로 정렬됩니다. \n"
+                    + "예: `/api/v1/posts/search?keyword=jpa&author=stella&categoryId=1&tagIds=2&tagIds=3&from=2025-01-01&to=2025-12-31` \n"
+                    + "`countCap`을 지정하면 총 건수를 해당 값까지만 세고, 초과 시 `totalCapped=true`로 응답합니다. (예: 10,000+) \n"
+                    + "`view=summary`이면 본문 없이 id/제목/작성자/카테고리/태그/작성일만 응답합니다."
     )
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<PageResponse<PostDto>>> search(
+    public ResponseEntity<ApiResponse<PageResponse<?>>> search(
             @ParameterObject PostSearchDtos.PostSearchCondition condition,
             @ParameterObject Pageable pageable,
+            @Parameter(description = "총 건수 상한 (생략 시 정확한 건수)", example = "10000")
+            @RequestParam(required = false) Long countCap,
+            @Parameter(description = "full(기본) | summary (본문 제외 요약)", example = "summary")
+            @RequestParam(defaultValue = "full") String view,
             @Parameter(hidden = true) HttpServletRequest request) {
+        if (isSummary(view)) {
+            if (countCap != null && countCap > 0) {
+                Page<PostSummaryDto> page = postService.searchSummaries(condition, pageable, countCap);
+                return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page, countCap), request.getRequestURI()));
+            }
+            Page<PostSummaryDto> page = postService.searchSummaries(condition, pageable);
+            return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page), request.getRequestURI()));
+        }
+        if (countCap != null && countCap > 0) {
+            Page<PostDto> page = postService.search(condition, pageable, countCap);
+            return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page, countCap), request.getRequestURI()));
+        }
         Page<PostDto> page = postService.search(condition, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page), request.getRequestURI()));
     }
 
+    @Operation(
+            summary = "게시글 커서 검색",
+            description = "검색 조건은 `/search`와 같고, 결과를 커서(키셋) 방식으로 최신순 조회합니다."
+    )
+    @GetMapping("/search/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<PostDto>>> searchScroll(
+            @ParameterObject PostSearchDtos.PostSearchCondition condition,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        var body = postService.scroll(condition, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(body, request.getRequestURI()));
+    }
+
+    @Operation(
+            summary = "게시글 내보내기",
+            description = "카테고리/작성일 기간 조건의 게시글 전체를 NDJSON(기본) 또는 CSV로 스트리밍합니다. "
+                    + "페이지/건수 조회 없이 한 번의 쿼리 결과를 그대로 응답에 씁니다. \n"
+                    + "예: `/api/v1/posts/export?format=csv&categoryId=1&from=2025-01-01&to=2025-12-31`"
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "ndjson | csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "작성일 시작 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "작성일 끝 (yyyy-MM-dd, 포함)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        // 형식 오류는 스트리밍 시작 전에 일반 에러 응답으로 처리
+        PostExportFormat exportFormat = PostExportFormat.from(format);
+        StreamingResponseBody body = out -> postExportService.export(categoryId, from, to, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+
     @Operation(
             summary = "게시글 생성",
             description = "새 게시글을 생성합니다. 선택적으로 카테고리/태그를 지정할 수 있습니다."
@@ -80,6 +212,46 @@ public class PostController {
                 .body(ApiResponse.created(created, request.getRequestURI()));
     }
 
+    @Operation(
+            summary = "게시글 대량 등록",
+            description = "여러 게시글을 한 번에 등록합니다. 카테고리/태그는 slug로 지정하며, 존재하지 않는 slug가 있으면 전체 요청이 거부됩니다. \n"
+                    + "서버 설정(app.posts.import.chunk-size) 단위로 나누어 커밋되고, insert는 JDBC 배치로 실행됩니다."
+    )
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<PostImportDtos.PostImportResult>> bulkCreate(
+            @Valid @RequestBody PostImportDtos.PostImportRequest req,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        PostImportDtos.PostImportResult result = postImportService.importPosts(req.posts());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(result, request.getRequestURI()));
+    }
+
+    @Operation(
+            summary = "태그 일괄 추가/제거",
+            description = "여러 게시글에 태그 하나를 한 번에 추가(ADD)하거나 제거(REMOVE)합니다. \n"
+                    + "게시글을 하나씩 수정하지 않고 집합 단위 INSERT/DELETE로 처리하며, 실제로 바뀐 게시글 수를 반환합니다."
+    )
+    @PostMapping("/retag")
+    public ResponseEntity<ApiResponse<PostRetagDtos.PostRetagResult>> retag(
+            @Valid @RequestBody PostRetagDtos.PostRetagRequest req,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        PostRetagDtos.PostRetagResult result = postRetagService.retag(req.tagId(), req.action(), req.postIds());
+        return ResponseEntity.ok(ApiResponse.success(result, request.getRequestURI()));
+    }
+
+    @Operation(
+            summary = "게시글 일괄 삭제",
+            description = "여러 게시글을 한 번에 삭제합니다. 태그 연결과 첨부파일 정보도 집합 단위 DELETE로 함께 삭제하며, \n"
+                    + "첨부파일의 실제 파일은 백그라운드 정리 작업이 삭제합니다. 없는 ID는 건너뛰고 실제로 삭제된 수를 반환합니다."
+    )
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ApiResponse<PostBulkDeleteDtos.PostBulkDeleteResult>> bulkDelete(
+            @Valid @RequestBody PostBulkDeleteDtos.PostBulkDeleteRequest req,
+            @Parameter(hidden = true) HttpServletRequest request) {
+        PostBulkDeleteDtos.PostBulkDeleteResult result = postBulkDeleteService.delete(req.postIds());
+        return ResponseEntity.ok(ApiResponse.success(result, request.getRequestURI()));
+    }
+
     @Operation(
             summary = "게시글 수정",
             description = "제목/내용 및 카테고리/태그를 수정합니다. 태그는 전달 시 전체 재설정됩니다."
@@ -94,6 +266,13 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success(updated, request.getRequestURI()));
     }
 
+    // view 파라미터: full | summary (그 외 값은 400)
+    private static boolean isSummary(String view) {
+        if ("summary".equalsIgnoreCase(view)) return true;
+        if ("full".equalsIgnoreCase(view)) return false;
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(
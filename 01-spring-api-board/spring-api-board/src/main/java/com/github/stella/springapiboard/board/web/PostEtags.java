@@ -0,0 +1,34 @@
+package com.github.stella.springapiboard.board.web;
+
+import com.github.stella.springapiboard.board.dto.PostVersionDtos;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 강한(strong) ETag
+ * - 단건: "post-{id}-v{version}"
+ * - 목록: 표현(view) + 페이지 요청 + 페이지의 (id, version) + 총 건수의 MD5
+ */
+final class PostEtags {
+
+    private PostEtags() {}
+
+    static String of(Long id, Long version) {
+        return "\"post-" + id + "-v" + version + "\"";
+    }
+
+    static String ofPage(String view, Pageable pageable, PostVersionDtos.PageVersions versions) {
+        StringBuilder key = new StringBuilder()
+                .append(view).append('|')
+                .append(pageable.getPageNumber()).append('|')
+                .append(pageable.getPageSize()).append('|')
+                .append(pageable.getSort()).append('|')
+                .append(versions.total());
+        for (PostVersionDtos.PostVersion row : versions.rows()) {
+            key.append('|').append(row.id()).append(':').append(row.version());
+        }
+        return "\"posts-" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
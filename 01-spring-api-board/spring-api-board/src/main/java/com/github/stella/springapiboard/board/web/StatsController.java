@@ -1,15 +1,20 @@
 package com.github.stella.springapiboard.board.web;
 
 import com.github.stella.springapiboard.board.dto.StatsDtos;
+import com.github.stella.springapiboard.board.dto.StatsGranularity;
 import com.github.stella.springapiboard.board.service.StatsService;
+import com.github.stella.springapiboard.board.trending.TrendingTracker;
 import com.github.stella.springapiboard.common.api.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,9 +22,11 @@ import java.util.List;
 public class StatsController {
 
     private final StatsService statsService;
+    private final TrendingTracker trendingTracker;
 
-    public StatsController(StatsService statsService) {
+    public StatsController(StatsService statsService, TrendingTracker trendingTracker) {
         this.statsService = statsService;
+        this.trendingTracker = trendingTracker;
     }
 
     @GetMapping("/posts/daily")
@@ -29,6 +36,19 @@ public class StatsController {
         return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
     }
 
+    // 임의 구간 시계열: granularity=hour|day|week|month, categoryId 또는 tagId로 필터 (to 생략 시 현재까지)
+    @GetMapping("/posts/series")
+    public ResponseEntity<ApiResponse<List<StatsDtos.SeriesPoint>>> postSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long tagId,
+            HttpServletRequest request) {
+        var list = statsService.postSeries(from, to, StatsGranularity.from(granularity), categoryId, tagId);
+        return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
+    }
+
     @GetMapping("/categories/top")
     public ResponseEntity<ApiResponse<List<StatsDtos.TopItem>>> topCategories(@RequestParam(defaultValue = "5") int limit,
                                                                               HttpServletRequest request) {
@@ -49,4 +69,37 @@ public class StatsController {
         var list = statsService.topAuthors(limit);
         return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
     }
+
+    // 조회수 Top N (조회수는 주기적으로 반영되는 값, 통계 캐시 주기만큼 늦을 수 있음)
+    @GetMapping("/posts/most-viewed")
+    public ResponseEntity<ApiResponse<List<StatsDtos.TopItem>>> mostViewedPosts(@RequestParam(defaultValue = "5") int limit,
+                                                                                HttpServletRequest request) {
+        var list = statsService.mostViewedPosts(limit);
+        return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
+    }
+
+    // 실시간 인기: 최근 minutes분 동안 게시글 수 기준 (메모리 집계, DB 조회 없음)
+    @GetMapping("/categories/trending")
+    public ResponseEntity<ApiResponse<List<StatsDtos.TopItem>>> trendingCategories(@RequestParam(defaultValue = "60") int minutes,
+                                                                                   @RequestParam(defaultValue = "5") int limit,
+                                                                                   HttpServletRequest request) {
+        var list = trendingTracker.top(TrendingTracker.Dimension.CATEGORY, Duration.ofMinutes(minutes), limit);
+        return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
+    }
+
+    @GetMapping("/tags/trending")
+    public ResponseEntity<ApiResponse<List<StatsDtos.TopItem>>> trendingTags(@RequestParam(defaultValue = "60") int minutes,
+                                                                             @RequestParam(defaultValue = "5") int limit,
+                                                                             HttpServletRequest request) {
+        var list = trendingTracker.top(TrendingTracker.Dimension.TAG, Duration.ofMinutes(minutes), limit);
+        return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
+    }
+
+    @GetMapping("/authors/trending")
+    public ResponseEntity<ApiResponse<List<StatsDtos.TopItem>>> trendingAuthors(@RequestParam(defaultValue = "60") int minutes,
+                                                                                @RequestParam(defaultValue = "5") int limit,
+                                                                                HttpServletRequest request) {
+        var list = trendingTracker.top(TrendingTracker.Dimension.AUTHOR, Duration.ofMinutes(minutes), limit);
+        return ResponseEntity.ok(ApiResponse.success(list, request.getRequestURI()));
+    }
 }
@@ -0,0 +1,18 @@
+package com.github.stella.springapiboard.common.api;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이징 응답을 위한 표준 DTO
+ * nextCursor가 null이면 마지막 페이지이다.
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResponse<>(content, size, nextCursor != null, nextCursor);
+    }
+}
@@ -6,13 +6,15 @@ import java.util.List;
 
 /**
  * 페이징 응답을 위한 표준 DTO
+ * totalCapped가 true이면 totalElements는 정확한 값이 아니라 상한값이다. (예: "10,000+")
  */
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean totalCapped
 ) {
     public static <T> PageResponse<T> from(Page<T> page) {
         return new PageResponse<>(
@@ -20,7 +22,32 @@ public record PageResponse<T>(
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                false
+        );
+    }
+
+    /**
+     * 상한 count로 조회한 Page를 변환한다. count가 countCap을 넘으면 countCap으로 자르고 totalCapped를 표시한다.
+     * - 마지막 페이지가 덜 찬 경우 total은 offset + 건수로 정확히 계산된 값이므로(count 생략) 자르지 않는다.
+     * - 잘린 경우 현재 페이지가 상한 너머여도 totalPages가 현재 페이지보다 작아지지 않게 한다. (다음 페이지가 있을 수 있음)
+     */
+    public static <T> PageResponse<T> from(Page<T> page, long countCap) {
+        // PageableExecutionUtils와 같은 조건: 덜 찬 페이지(첫 페이지는 비어 있어도)면 count 없이 정확한 total
+        boolean exact = page.getNumberOfElements() < page.getSize() && (page.hasContent() || page.getNumber() == 0);
+        boolean capped = !exact && page.getTotalElements() > countCap;
+        long total = capped ? countCap : page.getTotalElements();
+        int totalPages = page.getSize() == 0 ? 1 : (int) Math.ceil((double) total / (double) page.getSize());
+        if (capped) {
+            totalPages = Math.max(totalPages, page.getNumber() + 1);
+        }
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                total,
+                totalPages,
+                capped
         );
     }
 }
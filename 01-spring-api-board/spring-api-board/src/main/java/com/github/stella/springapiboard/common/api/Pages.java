@@ -0,0 +1,48 @@
+package com.github.stella.springapiboard.common.api;
+
+import com.github.stella.springapiboard.common.error.CustomException;
+import com.github.stella.springapiboard.common.error.ErrorCode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리에 있는 목록을 Pageable(정렬 포함)에 맞춰 잘라 Page로 만든다.
+ * 정렬 가능한 속성은 comparators에 있는 것만 허용하고, 그 외 속성은 INVALID_INPUT.
+ */
+public final class Pages {
+
+    private Pages() {
+    }
+
+    public static <T> Page<T> of(List<T> items, Pageable pageable, Map<String, Comparator<T>> comparators) {
+        List<T> sorted = items;
+        if (pageable.getSort().isSorted()) {
+            sorted = items.stream().sorted(comparator(pageable.getSort(), comparators)).toList();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    private static <T> Comparator<T> comparator(Sort sort, Map<String, Comparator<T>> comparators) {
+        Comparator<T> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<T> c = comparators.get(order.getProperty());
+            if (c == null) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+            if (order.isDescending()) c = c.reversed();
+            result = result == null ? c : result.thenComparing(c);
+        }
+        return result;
+    }
+}
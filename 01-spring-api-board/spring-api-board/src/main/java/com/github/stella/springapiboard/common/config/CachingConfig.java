@@ -1,9 +1,74 @@
 package com.github.stella.springapiboard.common.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.stella.springapiboard.board.repository.StatsQueryRepository;
+import com.github.stella.springapiboard.board.service.StatsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Caffeine 기반 캐시 설정
+ * - 모든 캐시는 크기/TTL 제한 (요청 파라미터가 키가 되어도 힙이 무한히 늘지 않음)
+ * - 통계 캐시는 LoadingCache로 등록해 refreshAfterWrite 경과 후 첫 조회 시 기존 값을 즉시 반환하고
+ *   백그라운드에서 재계산한다. (refresh-ahead, 사용자 요청이 집계 비용을 기다리지 않음)
+ */
 @Configuration
 @EnableCaching
 public class CachingConfig {
+
+    public static final String STATS_DAILY_POSTS = "statsDailyPosts";
+    public static final String STATS_TOP_CATEGORIES = "statsTopCategories";
+    public static final String STATS_TOP_TAGS = "statsTopTags";
+    public static final String STATS_TOP_AUTHORS = "statsTopAuthors";
+    public static final String STATS_MOST_VIEWED_POSTS = "statsMostViewedPosts";
+
+    @Value("${app.cache.stats.maximum-size:100}")
+    private long statsMaximumSize;
+
+    @Value("${app.cache.stats.expire-after-write:30m}")
+    private Duration statsExpireAfterWrite;
+
+    @Value("${app.cache.stats.refresh-after-write:5m}")
+    private Duration statsRefreshAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<StatsQueryRepository> statsQueryRepository) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        // 그 외 캐시 기본값
+        manager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats());
+
+        // 로더는 StatsService와 같은 파라미터 보정 규칙으로 Repository를 직접 호출한다
+        manager.registerCustomCache(STATS_DAILY_POSTS, statsCache(key ->
+                statsQueryRepository.getObject().findDailyPosts(StatsService.normalizeDays((Integer) key))));
+        manager.registerCustomCache(STATS_TOP_CATEGORIES, statsCache(key ->
+                statsQueryRepository.getObject().findTopCategories(StatsService.normalizeLimit((Integer) key))));
+        manager.registerCustomCache(STATS_TOP_TAGS, statsCache(key ->
+                statsQueryRepository.getObject().findTopTags(StatsService.normalizeLimit((Integer) key))));
+        manager.registerCustomCache(STATS_TOP_AUTHORS, statsCache(key ->
+                statsQueryRepository.getObject().findTopAuthors(StatsService.normalizeLimit((Integer) key))));
+        manager.registerCustomCache(STATS_MOST_VIEWED_POSTS, statsCache(key ->
+                statsQueryRepository.getObject().findMostViewedPosts(StatsService.normalizeLimit((Integer) key))));
+        return manager;
+    }
+
+    private LoadingCache<Object, Object> statsCache(Function<Object, Object> loader) {
+        return Caffeine.newBuilder()
+                .maximumSize(statsMaximumSize)
+                .expireAfterWrite(statsExpireAfterWrite)
+                .refreshAfterWrite(statsRefreshAfterWrite)
+                .recordStats()
+                .build(loader::apply);
+    }
 }
@@ -1,9 +1,12 @@
 package com.github.stella.springapiboard.common.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+// app.scheduling.enabled=false 이면 @Scheduled 작업을 모두 끈다 (벤치마크 등 측정용 컨텍스트)
 @Configuration
 @EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
 public class SchedulingConfig {
 }
@@ -0,0 +1,30 @@
+package com.github.stella.springapiboard.common.config;
+
+import com.github.stella.springapiboard.board.service.StatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatsCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsCacheWarmer.class);
+
+    private final StatsService statsService;
+
+    public StatsCacheWarmer(StatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    // 기동 직후 기본 파라미터 통계를 미리 계산해 둔다. 이후에는 refresh-ahead로 갱신됨
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpStatsCaches() {
+        statsService.dailyPosts(StatsService.DEFAULT_DAYS);
+        statsService.topCategories(StatsService.DEFAULT_LIMIT);
+        statsService.topTags(StatsService.DEFAULT_LIMIT);
+        statsService.topAuthors(StatsService.DEFAULT_LIMIT);
+        log.info("Warmed up stats caches");
+    }
+}
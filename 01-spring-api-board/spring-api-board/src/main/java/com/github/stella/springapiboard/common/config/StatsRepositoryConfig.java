@@ -0,0 +1,36 @@
+package com.github.stella.springapiboard.common.config;
+
+import com.github.stella.springapiboard.board.repository.StatsQueryRepository;
+import com.github.stella.springapiboard.board.repository.StatsQueryRepositoryImpl;
+import com.github.stella.springapiboard.board.repository.StatsQueryRepositoryJpqlImpl;
+import com.github.stella.springapiboard.board.repository.StatsQueryRepositoryQuerydslImpl;
+import com.github.stella.springapiboard.board.repository.StatsQueryRepositoryRollupImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * StatsService가 사용할 StatsQueryRepository 구현 선택
+ * app.stats.source = native(기본) | jpql | querydsl | rollup
+ * 구현체는 모두 빈으로 등록되어 있고, 여기서 고른 하나만 @Primary로 노출한다.
+ */
+@Configuration
+public class StatsRepositoryConfig {
+
+    @Bean
+    @Primary
+    public StatsQueryRepository statsQueryRepository(@Value("${app.stats.source:native}") String source,
+                                                     StatsQueryRepositoryImpl nativeImpl,
+                                                     StatsQueryRepositoryJpqlImpl jpqlImpl,
+                                                     StatsQueryRepositoryQuerydslImpl querydslImpl,
+                                                     StatsQueryRepositoryRollupImpl rollupImpl) {
+        return switch (source.toLowerCase()) {
+            case "jpql" -> jpqlImpl;
+            case "querydsl" -> querydslImpl;
+            case "rollup" -> rollupImpl;
+            case "native" -> nativeImpl;
+            default -> throw new IllegalArgumentException("Unknown app.stats.source: " + source);
+        };
+    }
+}
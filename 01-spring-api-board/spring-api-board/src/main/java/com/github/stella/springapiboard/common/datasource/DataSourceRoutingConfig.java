@@ -0,0 +1,78 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.routing.enabled=true 일 때만)
+ * - 애플리케이션이 쓰는 DataSource는 LazyConnectionDataSourceProxy이다. 실제 커넥션은 첫 SQL 시점에 얻으므로
+ *   그 전에 트랜잭션 매니저가 Connection.setReadOnly(true)를 호출한 readOnly 트랜잭션은 레플리카 풀로,
+ *   나머지(쓰기 트랜잭션, 트랜잭션 밖 호출)는 프라이머리로 간다.
+ * - 레플리카 풀은 spring.datasource.hikari.* 설정을 공유하고 url/계정/풀 크기만 따로 지정한다.
+ * - 복제 지연 동안 레플리카 읽기는 최대 max-lag만큼 이전 값을 볼 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceRoutingProperties routing,
+                                                             DataSourceProperties properties,
+                                                             Environment environment) {
+        List<ReplicaNode> nodes = new ArrayList<>();
+        for (int i = 0; i < routing.replicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routing.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : properties.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : properties.determinePassword());
+            dataSource.setReadOnly(true);
+            if (replica.maximumPoolSize() != null) dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            nodes.add(new ReplicaNode("replica-" + i, dataSource));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, nodes, routing.selection());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               DataSourceRoutingProperties routing) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, routing.maxLag());
+    }
+}
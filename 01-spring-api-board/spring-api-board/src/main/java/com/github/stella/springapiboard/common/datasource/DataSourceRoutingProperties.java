@@ -0,0 +1,31 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * app.datasource.routing.*
+ * 프라이머리는 spring.datasource.* 를 그대로 쓰고, 레플리카만 목록으로 지정한다.
+ * (레플리카 username/password를 비우면 프라이머리 값을 사용)
+ */
+@ConfigurationProperties("app.datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ROUND_ROBIN") Selection selection,
+        // 이보다 뒤처진 레플리카는 지연이 줄어들 때까지 읽기 대상에서 제외
+        @DefaultValue("PT5S") Duration maxLag,
+        @DefaultValue("PT5S") Duration lagCheckInterval,
+        @DefaultValue List<Replica> replicas
+) {
+    public enum Selection { ROUND_ROBIN, LEAST_CONNECTIONS }
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            Integer maximumPoolSize
+    ) {}
+}
@@ -0,0 +1,103 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 확인용 임베디드 PostgreSQL 두 개: 프라이머리 + 스트리밍 복제 standby
+ * - 프라이머리를 initdb 후 정지하고 데이터 디렉터리를 복사해 standby로 띄운다. (pg_basebackup 없이 같은 시스템 ID)
+ * - DDL/DML 모두 물리 복제되므로 레플리카에서 읽기 전용 트랜잭션이 실제 데이터를 본다.
+ * - JVM 종료 시 둘 다 정지하고 데이터 디렉터리를 지운다.
+ */
+final class EmbeddedReplicatedPostgres {
+
+    private final EmbeddedPostgres primary;
+    private final EmbeddedPostgres replica;
+    private final Path baseDir;
+
+    private EmbeddedReplicatedPostgres(EmbeddedPostgres primary, EmbeddedPostgres replica, Path baseDir) {
+        this.primary = primary;
+        this.replica = replica;
+        this.baseDir = baseDir;
+    }
+
+    static EmbeddedReplicatedPostgres start() throws IOException {
+        Path baseDir = Files.createTempDirectory("board-pg-");
+        Path primaryDir = baseDir.resolve("primary");
+        Path replicaDir = baseDir.resolve("replica");
+        int primaryPort = freePort();
+        int replicaPort = freePort();
+
+        // 1) initdb만 하고 정지 (데이터 디렉터리는 유지)
+        builder(primaryDir, primaryPort).start().close();
+
+        // 2) 정지된 클러스터를 복사하고 standby 설정 추가
+        copy(primaryDir, replicaDir);
+        Files.deleteIfExists(replicaDir.resolve("postmaster.pid"));
+        Files.createFile(replicaDir.resolve("standby.signal"));
+        Files.writeString(replicaDir.resolve("postgresql.auto.conf"),
+                "\nprimary_conninfo = 'host=localhost port=" + primaryPort + " user=postgres'\n",
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        EmbeddedPostgres primary = builder(primaryDir, primaryPort).start();
+        EmbeddedPostgres replica = builder(replicaDir, replicaPort).start();
+        EmbeddedReplicatedPostgres pair = new EmbeddedReplicatedPostgres(primary, replica, baseDir);
+        Runtime.getRuntime().addShutdownHook(new Thread(pair::stop, "embedded-postgres-shutdown"));
+        return pair;
+    }
+
+    String primaryJdbcUrl() {
+        return primary.getJdbcUrl("postgres", "postgres");
+    }
+
+    String replicaJdbcUrl() {
+        return replica.getJdbcUrl("postgres", "postgres");
+    }
+
+    private void stop() {
+        try {
+            replica.close();
+            primary.close();
+            try (Stream<Path> paths = Files.walk(baseDir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        } catch (IOException ignored) {
+            // 종료 중에는 무시
+        }
+    }
+
+    private static EmbeddedPostgres.Builder builder(Path dataDir, int port) {
+        return EmbeddedPostgres.builder()
+                .setDataDirectory(dataDir)
+                .setCleanDataDirectory(false)
+                .setPort(port);
+    }
+
+    private static void copy(Path from, Path to) throws IOException {
+        try (Stream<Path> paths = Files.walk(from)) {
+            paths.forEach(source -> {
+                Path target = to.resolve(from.relativize(source));
+                try {
+                    if (Files.isDirectory(source)) Files.createDirectories(target);
+                    else Files.copy(source, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
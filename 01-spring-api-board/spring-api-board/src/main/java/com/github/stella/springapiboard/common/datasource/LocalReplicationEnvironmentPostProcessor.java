@@ -0,0 +1,54 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.Profiles;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * local-routing 프로필: 임베디드 프라이머리/레플리카를 띄우고 읽기/쓰기 분리를 켠다.
+ * ./gradlew bootRun --args='--spring.profiles.active=local-routing'
+ * (embedded-postgres는 developmentOnly 의존성이라 bootRun에서만 동작, devtools 재시작 시에도 한 번만 띄운다)
+ */
+public class LocalReplicationEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String PROFILE = "local-routing";
+    private static final String EMBEDDED_POSTGRES = "io.zonky.test.db.postgres.embedded.EmbeddedPostgres";
+
+    // devtools 재시작은 클래스를 다시 로딩하므로 JVM 전역(시스템 프로퍼티)에 URL을 남겨 재사용한다
+    private static final String PRIMARY_URL = "board.local-routing.primary-url";
+    private static final String REPLICA_URL = "board.local-routing.replica-url";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.acceptsProfiles(Profiles.of(PROFILE))
+                || !ClassUtils.isPresent(EMBEDDED_POSTGRES, getClass().getClassLoader())) {
+            return;
+        }
+        startOnce();
+        environment.getPropertySources().addFirst(new MapPropertySource("localReplication", Map.of(
+                "spring.datasource.url", System.getProperty(PRIMARY_URL),
+                "spring.datasource.username", "postgres",
+                "spring.datasource.password", "",
+                "app.datasource.routing.enabled", "true",
+                "app.datasource.routing.replicas[0].url", System.getProperty(REPLICA_URL)
+        )));
+    }
+
+    private static synchronized void startOnce() {
+        if (System.getProperty(PRIMARY_URL) != null) return;
+        try {
+            EmbeddedReplicatedPostgres pair = EmbeddedReplicatedPostgres.start();
+            System.setProperty(PRIMARY_URL, pair.primaryJdbcUrl());
+            System.setProperty(REPLICA_URL, pair.replicaJdbcUrl());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 레플리카 복제 지연 감시
+ * - 수신한 WAL을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 시각과의 차이를 지연으로 본다.
+ *   (유휴 상태에서 재생 시각이 오래돼도 지연으로 잡지 않음)
+ * - 지연이 max-lag를 넘거나 연결/조회에 실패하면 읽기 대상에서 빼고, 다음 점검에서 회복되면 다시 넣는다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_SQL = """
+            select case
+                     when not pg_is_in_recovery() then 0
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end
+            """;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final long maxLagMillis;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    // 첫 점검 전에는 레플리카를 쓰지 않으므로 기동 직후 한 번 점검한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        check();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval:PT5S}")
+    public void check() {
+        for (ReplicaNode node : routingDataSource.replicas()) {
+            long lag = probe(node);
+            boolean healthy = lag >= 0 && lag <= maxLagMillis;
+            if (healthy != node.healthy()) {
+                if (healthy) log.info("Replica {} back in rotation (lag={}ms)", node.name(), lag);
+                else log.warn("Replica {} removed from rotation (lag={}ms, max={}ms)", node.name(), lag, maxLagMillis);
+            }
+            node.update(healthy, lag);
+        }
+    }
+
+    // 실패 시 -1
+    private long probe(ReplicaNode node) {
+        try (Connection con = node.dataSource().getConnection();
+             Statement st = con.createStatement()) {
+            st.setQueryTimeout(2);
+            try (ResultSet rs = st.executeQuery(LAG_SQL)) {
+                return rs.next() ? Math.round(rs.getDouble(1)) : -1;
+            }
+        } catch (Exception e) {
+            log.debug("Replica {} lag probe failed", node.name(), e);
+            return -1;
+        }
+    }
+}
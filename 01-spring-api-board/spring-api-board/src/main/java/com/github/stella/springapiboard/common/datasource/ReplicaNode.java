@@ -0,0 +1,49 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 레플리카 커넥션 풀 하나와 지연 감시 상태
+ * healthy/lagMillis는 ReplicaLagMonitor가 갱신하고 라우팅 시 읽기만 한다.
+ */
+final class ReplicaNode {
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    // 첫 점검 전까지는 사용하지 않는다
+    private volatile boolean healthy;
+    private volatile long lagMillis = -1;
+
+    ReplicaNode(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return name;
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    boolean healthy() {
+        return healthy;
+    }
+
+    long lagMillis() {
+        return lagMillis;
+    }
+
+    void update(boolean healthy, long lagMillis) {
+        this.healthy = healthy;
+        this.lagMillis = lagMillis;
+    }
+
+    // 풀이 아직 시작되지 않았으면 0
+    int activeConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+}
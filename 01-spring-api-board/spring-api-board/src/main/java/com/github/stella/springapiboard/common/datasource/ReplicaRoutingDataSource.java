@@ -0,0 +1,63 @@
+package com.github.stella.springapiboard.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션용 DataSource: 정상(지연 허용치 이내) 레플리카 중 하나로 라우팅한다.
+ * - ROUND_ROBIN: 순서대로, LEAST_CONNECTIONS: 사용 중 커넥션이 가장 적은 풀
+ * - 정상 레플리카가 없으면 프라이머리로 보낸다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<ReplicaNode> replicas;
+    private final DataSourceRoutingProperties.Selection selection;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    ReplicaRoutingDataSource(DataSource primary,
+                             List<ReplicaNode> replicas,
+                             DataSourceRoutingProperties.Selection selection) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(node -> targets.put(node.name(), node.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReplicaNode node = select();
+        return node != null ? node.name() : PRIMARY;
+    }
+
+    ReplicaNode select() {
+        List<ReplicaNode> candidates = replicas.stream().filter(ReplicaNode::healthy).toList();
+        if (candidates.isEmpty()) return null;
+        if (selection == DataSourceRoutingProperties.Selection.LEAST_CONNECTIONS) {
+            ReplicaNode best = candidates.get(0);
+            for (ReplicaNode node : candidates) {
+                if (node.activeConnections() < best.activeConnections()) best = node;
+            }
+            return best;
+        }
+        return candidates.get(Math.floorMod(sequence.getAndIncrement(), candidates.size()));
+    }
+
+    List<ReplicaNode> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(node -> node.dataSource().close());
+    }
+}
@@ -22,6 +22,7 @@ public enum ErrorCode {
 
     // 409 CONFLICT
     DUPLICATE_RESOURCE(409, "이미 존재하는 리소스입니다."),
+    CONCURRENT_MODIFICATION(409, "다른 요청에 의해 이미 변경되었습니다. 다시 조회 후 시도해 주세요."),
 
     // 500 INTERNAL SERVER ERROR
     INTERNAL_SERVER_ERROR(500, "서버 오류가 발생했습니다.");
@@ -0,0 +1,76 @@
+package com.github.stella.springapiboard.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 지표
+ * - board.sql.statements / board.sql.time / board.sql.entities (tag: method, uri=매핑 패턴)
+ * - 문장 수가 statement-budget을 넘으면 board.sql.budget.exceeded를 올리고 경고 로그
+ * - 같은 형태의 문장이 repeat-threshold번 이상 실행되면 N+1 의심으로 board.sql.n_plus_one을 올리고 경고 로그
+ */
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    private final MeterRegistry registry;
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    public SqlMetricsFilter(MeterRegistry registry, int statementBudget, int repeatThreshold) {
+        this.registry = registry;
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestContext context = SqlRequestContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+            record(request, context);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestContext context) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // 매핑되지 않은 요청(404, 정적 리소스 등)은 uri 태그 폭증을 막기 위해 기록하지 않는다
+        if (pattern == null) return;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern.toString());
+
+        DistributionSummary.builder("board.sql.statements").tags(tags).register(registry).record(context.statements());
+        Timer.builder("board.sql.time").tags(tags).register(registry).record(Duration.ofNanos(context.sqlNanos()));
+        DistributionSummary.builder("board.sql.entities").tags(tags).register(registry).record(context.entitiesLoaded());
+
+        if (context.statements() > statementBudget) {
+            Counter.builder("board.sql.budget.exceeded").tags(tags).register(registry).increment();
+            log.warn("SQL budget exceeded: {} {} statements={} (budget={}), sqlTime={}ms, entities={}",
+                    request.getMethod(), pattern, context.statements(), statementBudget,
+                    context.sqlNanos() / 1_000_000, context.entitiesLoaded());
+        }
+        Map<String, Integer> repeated = context.repeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("board.sql.n_plus_one").tags(tags).register(registry).increment();
+            repeated.forEach((shape, count) ->
+                    log.warn("Possible N+1: {} {} executed {} times: {}", request.getMethod(), pattern, count, shape));
+        }
+    }
+}
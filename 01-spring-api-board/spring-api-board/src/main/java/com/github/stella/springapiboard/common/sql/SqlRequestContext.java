@@ -0,0 +1,83 @@
+package com.github.stella.springapiboard.common.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL 집계 (요청 스레드의 ThreadLocal)
+ * - 요청 밖(스케줄러, 비동기 스트리밍 등)에서 실행된 SQL은 집계하지 않는다.
+ * - N+1 탐지를 위해 리터럴/IN 목록을 지운 문장 형태별 실행 횟수를 센다.
+ */
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private long sqlNanos;
+    private long entitiesLoaded;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    private SqlRequestContext() {
+    }
+
+    static SqlRequestContext begin() {
+        SqlRequestContext context = new SqlRequestContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlRequestContext current() {
+        return CURRENT.get();
+    }
+
+    void statement(String sql) {
+        statements++;
+        shapes.merge(shape(sql), 1, Integer::sum);
+    }
+
+    void sqlTime(long nanos) {
+        sqlNanos += nanos;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    long entitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    // threshold번 이상 반복된 문장 형태 (N+1 후보)
+    Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= threshold) repeated.put(shape, count);
+        });
+        return repeated;
+    }
+
+    static String shape(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("(...)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+}
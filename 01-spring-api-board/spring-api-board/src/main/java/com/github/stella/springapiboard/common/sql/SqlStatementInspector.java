@@ -0,0 +1,16 @@
+package com.github.stella.springapiboard.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL(HQL/Criteria/native)을 현재 요청 집계에 기록한다. SQL은 바꾸지 않는다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) context.statement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.stella.springapiboard.common.sql;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * JDBC 실행 시간 측정 (hibernate.session.events.auto로 세션마다 생성)
+ * 조회는 executeQuery가 반환될 때까지의 시간이며 결과 행을 읽는 시간은 포함하지 않는다.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null && start != 0) context.sqlTime(System.nanoTime() - start);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.stella.springapiboard.common.error.CustomException;
 import com.github.stella.springapiboard.common.error.ErrorCode;
 import com.github.stella.springapiboard.common.error.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -41,6 +42,14 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(code, request.getRequestURI()));
     }
 
+    // @Version 충돌 (동시에 같은 게시글 수정)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(OptimisticLockingFailureException e, HttpServletRequest request) {
+        var code = ErrorCode.CONCURRENT_MODIFICATION;
+        return ResponseEntity.status(code.status())
+                .body(ErrorResponse.of(code, request.getRequestURI()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e, HttpServletRequest request) {
         // Swagger 관련 경로는 처리하지 않음 (Springdoc이 자체 처리하도록)